@@ -29,7 +29,8 @@ export class AdminCreateComponent {
       city: ['', [Validators.required]],
       startsAt: ['', [Validators.required]],
       endsAt: [''],
-      totalCapacity: [1, [Validators.required, Validators.min(1)]]
+      totalCapacity: [1, [Validators.required, Validators.min(1)]],
+      maxPerUser: [null as number | null, [Validators.min(1)]]
     });
   }
 
@@ -55,7 +56,8 @@ export class AdminCreateComponent {
             city: '',
             startsAt: '',
             endsAt: '',
-            totalCapacity: 1
+            totalCapacity: 1,
+            maxPerUser: null
           });
         },
         error: (err) => this.message.set(this.extractError(err))
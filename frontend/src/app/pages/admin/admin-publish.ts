@@ -79,7 +79,6 @@ type EventResponse = {
   id: string;
   status: string;
   title: string;
-  description: string | null;
   venue: string;
   city: string;
   startsAt: string;
@@ -16,7 +16,7 @@ export class AdminUpdateComponent {
   private readonly apiBase = '';
   protected readonly message = signal<string | null>(null);
   protected readonly loading = signal(false);
-  protected readonly events = signal<EventResponse[]>([]);
+  protected readonly events = signal<EventSummaryResponse[]>([]);
   protected readonly selectedId = signal<string>('');
   protected readonly form;
 
@@ -31,7 +31,8 @@ export class AdminUpdateComponent {
       city: [''],
       startsAt: [''],
       endsAt: [''],
-      totalCapacity: ['']
+      totalCapacity: [''],
+      maxPerUser: ['']
     });
     this.loadEvents();
   }
@@ -39,7 +40,7 @@ export class AdminUpdateComponent {
   loadEvents() {
     this.loading.set(true);
     this.http
-      .get<ApiResponse<EventResponse[]>>(`${this.apiBase}/api/admin/events`, {
+      .get<ApiResponse<EventSummaryResponse[]>>(`${this.apiBase}/api/admin/events`, {
         headers: this.authHeaders()
       })
       .pipe(finalize(() => this.loading.set(false)))
@@ -56,17 +57,27 @@ export class AdminUpdateComponent {
 
   selectEvent(eventId: string) {
     this.selectedId.set(eventId);
-    const event = this.events().find((e) => e.id === eventId);
-    if (!event) return;
-    this.form.patchValue({
-      title: event.title,
-      description: event.description ?? '',
-      venue: event.venue,
-      city: event.city,
-      startsAt: this.toInputDate(event.startsAt),
-      endsAt: event.endsAt ? this.toInputDate(event.endsAt) : '',
-      totalCapacity: String(event.totalCapacity)
-    });
+    this.http
+      .get<ApiResponse<EventResponse>>(`${this.apiBase}/api/admin/events/${eventId}`, {
+        headers: this.authHeaders()
+      })
+      .subscribe({
+        next: (res) => {
+          const event = res.data;
+          if (!event || this.selectedId() !== eventId) return;
+          this.form.patchValue({
+            title: event.title,
+            description: event.description ?? '',
+            venue: event.venue,
+            city: event.city,
+            startsAt: this.toInputDate(event.startsAt),
+            endsAt: event.endsAt ? this.toInputDate(event.endsAt) : '',
+            totalCapacity: String(event.totalCapacity),
+            maxPerUser: event.maxPerUser ? String(event.maxPerUser) : ''
+          });
+        },
+        error: (err) => this.message.set(this.extractError(err))
+      });
   }
 
   updateEvent() {
@@ -84,7 +95,8 @@ export class AdminUpdateComponent {
       city: this.emptyToNull(raw.city),
       startsAt: this.emptyToNull(raw.startsAt),
       endsAt: this.emptyToNull(raw.endsAt),
-      totalCapacity: this.emptyToNumber(raw.totalCapacity)
+      totalCapacity: this.emptyToNumber(raw.totalCapacity),
+      maxPerUser: this.emptyToNumber(raw.maxPerUser)
     };
     this.http
       .put<ApiResponse<any>>(`${this.apiBase}/api/admin/events/${eventId}`, payload, {
@@ -143,4 +155,7 @@ type EventResponse = {
   startsAt: string;
   endsAt: string | null;
   totalCapacity: number;
+  maxPerUser: number | null;
 };
+
+type EventSummaryResponse = Omit<EventResponse, 'description'>;
@@ -17,26 +17,39 @@ export class EventsComponent {
   protected readonly message = signal<string | null>(null);
   protected readonly quantities = signal<Record<string, number>>({});
   protected readonly holds = signal<Record<string, HoldState>>({});
+  protected readonly nextCursor = signal<string | null>(null);
 
   constructor(private readonly http: HttpClient) {
     this.loadEvents();
   }
 
   loadEvents() {
+    this.events.set([]);
+    this.nextCursor.set(null);
+    this.fetchPage(null);
+  }
+
+  loadMore() {
+    const cursor = this.nextCursor();
+    if (cursor && !this.loading()) {
+      this.fetchPage(cursor);
+    }
+  }
+
+  private fetchPage(cursor: string | null) {
     this.loading.set(true);
     this.message.set(null);
+    const query = cursor
+      ? `?includeAvailability=true&cursor=${encodeURIComponent(cursor)}`
+      : '?includeAvailability=true';
     this.http
-      .get<ApiResponse<Page<EventResponse>>>(`${this.apiBase}/api/events`)
+      .get<ApiResponse<CursorPage<EventResponse>>>(`${this.apiBase}/api/events${query}`)
       .pipe(finalize(() => this.loading.set(false)))
       .subscribe({
         next: (res) => {
           const content = res.data?.content ?? [];
-          const cards = content.map((e) => ({
-            ...e,
-            availableSeats: null
-          }));
-          this.events.set(cards);
-          cards.forEach((event) => this.loadDetail(event.id));
+          this.events.set([...this.events(), ...content]);
+          this.nextCursor.set(res.data?.nextCursor ?? null);
         },
         error: (err) => this.message.set(this.extractError(err))
       });
@@ -153,27 +166,26 @@ type ApiResponse<T> = {
   data: T;
 };
 
-type Page<T> = {
+type CursorPage<T> = {
   content: T[];
-  totalElements: number;
-  totalPages: number;
-  number: number;
   size: number;
+  hasNext: boolean;
+  nextCursor: string | null;
 };
 
 type EventResponse = {
   id: string;
   status: string;
   title: string;
-  description: string;
   venue: string;
   city: string;
   startsAt: string;
   endsAt: string;
   totalCapacity: number;
+  availableSeats: number | null;
 };
 
-type EventDetailResponse = EventResponse & { availableSeats: number | null };
+type EventDetailResponse = EventResponse & { description: string | null };
 
 type HoldResponse = {
   reservationId: string;
@@ -186,7 +198,7 @@ type ReservationStatusResponse = {
   status: string;
 };
 
-type EventCard = EventResponse & { availableSeats: number | null };
+type EventCard = EventResponse;
 
 type HoldState = {
   reservationId: string;
@@ -16,25 +16,43 @@ export class ReservationsComponent {
   protected readonly loading = signal(false);
   protected readonly message = signal<string | null>(null);
   protected readonly status = signal<string>('');
+  protected readonly nextCursor = signal<string | null>(null);
 
   constructor(private readonly http: HttpClient) {
     this.loadReservations();
   }
 
   loadReservations() {
+    this.reservations.set([]);
+    this.nextCursor.set(null);
+    this.fetchPage(null);
+  }
+
+  loadMore() {
+    const cursor = this.nextCursor();
+    if (cursor && !this.loading()) {
+      this.fetchPage(cursor);
+    }
+  }
+
+  private fetchPage(cursor: string | null) {
     this.loading.set(true);
     this.message.set(null);
+    const params = new URLSearchParams();
     const filter = this.status();
-    const query = filter ? `?status=${encodeURIComponent(filter)}` : '';
+    if (filter) params.set('status', filter);
+    if (cursor) params.set('cursor', cursor);
+    const query = params.toString() ? `?${params}` : '';
     this.http
-      .get<ApiResponse<Page<ReservationResponse>>>(
+      .get<ApiResponse<CursorPage<ReservationResponse>>>(
         `${this.apiBase}/api/me/reservations${query}`,
         { headers: this.authHeaders() }
       )
       .pipe(finalize(() => this.loading.set(false)))
       .subscribe({
         next: (res) => {
-          this.reservations.set(res.data?.content ?? []);
+          this.reservations.set([...this.reservations(), ...(res.data?.content ?? [])]);
+          this.nextCursor.set(res.data?.nextCursor ?? null);
         },
         error: (err) => this.message.set(this.extractError(err))
       });
@@ -62,12 +80,11 @@ type ApiResponse<T> = {
   data: T;
 };
 
-type Page<T> = {
+type CursorPage<T> = {
   content: T[];
-  totalElements: number;
-  totalPages: number;
-  number: number;
   size: number;
+  hasNext: boolean;
+  nextCursor: string | null;
 };
 
 type ReservationResponse = {
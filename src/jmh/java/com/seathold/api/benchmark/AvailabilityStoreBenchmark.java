@@ -0,0 +1,62 @@
+package com.seathold.api.benchmark;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.seathold.api.inventory.InMemoryAvailabilityStore;
+
+/**
+ * Hold and release on one event of the in-memory store, alone and with
+ * eight buyers racing for the same counter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AvailabilityStoreBenchmark {
+    private static final Duration TTL = Duration.ofSeconds(1);
+
+    private InMemoryAvailabilityStore store;
+    private UUID eventId;
+
+    @Setup
+    public void setUp() {
+        store = new InMemoryAvailabilityStore(100, 1024);
+        eventId = UUID.randomUUID();
+        store.init(eventId, 1_000_000);
+    }
+
+    @TearDown(Level.Iteration)
+    public void advanceWheel() {
+        store.eventsWithHolds();
+    }
+
+    @State(Scope.Thread)
+    public static class Buyer {
+        final UUID userId = UUID.randomUUID();
+    }
+
+    @Benchmark
+    public long holdThenRelease(Buyer buyer) {
+        UUID reservationId = UUID.randomUUID();
+        store.hold(eventId, reservationId, buyer.userId, 2, 4, TTL);
+        return store.release(eventId, reservationId, buyer.userId, 2);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long holdThenReleaseContended(Buyer buyer) {
+        return holdThenRelease(buyer);
+    }
+}
@@ -0,0 +1,57 @@
+package com.seathold.api.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.seathold.api.common.response.ApiResponse;
+import com.seathold.api.common.response.ApiResponseFactory;
+import com.seathold.api.common.response.CursorPage;
+import com.seathold.api.domain.event.dto.EventSummaryResponse;
+
+/**
+ * Serializes a listing page the way {@code EventController.list} returns
+ * it, with an object mapper configured like Spring Boot's.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+    @Param({ "20", "100" })
+    private int size;
+
+    private ObjectWriter writer;
+    private ApiResponse<CursorPage<EventSummaryResponse>> page;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+        LocalDateTime startsAt = LocalDateTime.now().plusDays(30);
+        List<EventSummaryResponse> events = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            events.add(new EventSummaryResponse(UUID.randomUUID(), "PUBLISHED", "Concierto " + i,
+                    "Estadio Nacional", "Lima", startsAt.plusHours(i), startsAt.plusHours(i + 3), 40_000, 4,
+                    39_000 - i));
+        }
+        page = ApiResponseFactory.success(new CursorPage<>(events, size, true, "MjAyNi0xMS0xNlQyMDowMCwx"));
+    }
+
+    @Benchmark
+    public byte[] listingPage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,52 @@
+package com.seathold.api.benchmark;
+
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.seathold.api.security.JwtService;
+import com.seathold.api.security.RoleValidator.UserInfo;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Token verification with a warm verified-token cache and with no cache at
+ * all, which is what the first request of every token pays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtServiceBenchmark {
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("benchmark-secret-benchmark-secret-0123456789".getBytes());
+    private static final long ONE_HOUR = TimeUnit.HOURS.toMillis(1);
+
+    private JwtService cached;
+    private JwtService uncached;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cached = new JwtService(SECRET, ONE_HOUR, 10_000, new SimpleMeterRegistry());
+        uncached = new JwtService(SECRET, ONE_HOUR, 0, new SimpleMeterRegistry());
+        token = cached.generateToken(UUID.randomUUID(), "buyer@example.com", "USER");
+    }
+
+    @Benchmark
+    public UserInfo authenticateCached() {
+        return cached.authenticate(token);
+    }
+
+    @Benchmark
+    public UserInfo authenticateUncached() {
+        return uncached.authenticate(token);
+    }
+}
@@ -0,0 +1,68 @@
+package com.seathold.api.benchmark;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.seathold.api.ratelimit.LocalRateLimiter;
+import com.seathold.api.ratelimit.RateLimitProperties;
+
+/**
+ * The GCRA check of {@link LocalRateLimiter}: one hot subject that is
+ * mostly rejected, and many subjects spread over the key table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateLimiterBenchmark {
+    private static final int SUBJECTS = 50_000;
+
+    private LocalRateLimiter limiter;
+    private String[] subjects;
+
+    @Setup
+    public void setUp() {
+        limiter = new LocalRateLimiter(new RateLimitProperties(
+                Map.of("holds", new RateLimitProperties.Limit(5, 5)), 100_000));
+        subjects = new String[SUBJECTS];
+        for (int i = 0; i < SUBJECTS; i++) {
+            subjects[i] = UUID.randomUUID().toString();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public boolean hotSubject() {
+        return limiter.tryAcquire("holds", subjects[0]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean hotSubjectContended() {
+        return hotSubject();
+    }
+
+    @Benchmark
+    public boolean manySubjects(Cursor cursor) {
+        cursor.next = (cursor.next + 1) % SUBJECTS;
+        return limiter.tryAcquire("holds", subjects[cursor.next]);
+    }
+
+    @Benchmark
+    public boolean unlimitedEndpoint() {
+        return limiter.tryAcquire("events", subjects[0]);
+    }
+}
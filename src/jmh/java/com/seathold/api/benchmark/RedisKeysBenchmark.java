@@ -0,0 +1,47 @@
+package com.seathold.api.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.seathold.api.common.constants.RedisKeys;
+
+/**
+ * Key construction done on every hold: counter, hold, buyer cap and rate
+ * limit keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedisKeysBenchmark {
+    private final UUID eventId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+    private final UUID reservationId = UUID.randomUUID();
+    private final String subject = userId.toString();
+
+    @Benchmark
+    public String eventAvailable() {
+        return RedisKeys.eventAvailable(eventId);
+    }
+
+    @Benchmark
+    public String hold() {
+        return RedisKeys.hold(reservationId);
+    }
+
+    @Benchmark
+    public String eventUserSeats() {
+        return RedisKeys.eventUserSeats(eventId, userId);
+    }
+
+    @Benchmark
+    public String rateLimit() {
+        return RedisKeys.rateLimit("holds", subject);
+    }
+}
@@ -0,0 +1,108 @@
+package com.seathold.api.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.seathold.api.common.transaction.NoOpTransactionManager;
+import com.seathold.api.domain.event.EventService;
+import com.seathold.api.domain.event.EventSnapshot;
+import com.seathold.api.domain.event.EventStatus;
+import com.seathold.api.domain.reservation.HoldWriteBehind;
+import com.seathold.api.domain.reservation.InMemoryReservationTable;
+import com.seathold.api.domain.reservation.Reservation;
+import com.seathold.api.domain.reservation.ReservationService;
+import com.seathold.api.inventory.InMemoryAvailabilityStore;
+import com.seathold.api.inventory.InventoryRecovery;
+import com.seathold.api.ratelimit.LocalRateLimiter;
+import com.seathold.api.ratelimit.RateLimitProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * {@link ReservationService} hold, confirm and cancel against the in-memory
+ * store and a map-backed repository, so only our own code is measured.
+ * Rate limits are off here; {@link RateLimiterBenchmark} covers them. Meters
+ * go to a simple registry, as they would to Prometheus in production.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReservationServiceBenchmark {
+    private InMemoryAvailabilityStore store;
+    private InMemoryReservationTable reservations;
+    private ReservationService service;
+    private UUID eventId;
+
+    @Setup
+    public void setUp() {
+        eventId = UUID.randomUUID();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EventSnapshot event = new EventSnapshot(eventId, EventStatus.PUBLISHED, "Bench", null, "Arena", "Lima",
+                LocalDateTime.now().plusDays(30), LocalDateTime.now().plusDays(30).plusHours(3),
+                Integer.MAX_VALUE, null);
+
+        store = new InMemoryAvailabilityStore(100, 1024);
+        store.init(eventId, Integer.MAX_VALUE);
+        reservations = new InMemoryReservationTable();
+        TransactionTemplate transactions = new TransactionTemplate(new NoOpTransactionManager());
+
+        EventService eventService = new EventService(null, store, null, null, meterRegistry) {
+            @Override
+            public EventSnapshot findSnapshot(UUID id) {
+                return event;
+            }
+        };
+        HoldWriteBehind writeBehind = new HoldWriteBehind(null, transactions, store, false, 1, 1, 1, 1);
+        InventoryRecovery recovery = new InventoryRecovery(null, reservations.repository(), store, writeBehind,
+                new NoOpTransactionManager(), 1);
+        // One-second holds keep the expiry wheel small over a long run.
+        service = new ReservationService(reservations.repository(), eventService, store,
+                new LocalRateLimiter(new RateLimitProperties(Map.of(), 0)), transactions, writeBehind, recovery, meterRegistry, 1);
+    }
+
+    @TearDown(Level.Iteration)
+    public void advanceWheel() {
+        store.eventsWithHolds();
+    }
+
+    @State(Scope.Thread)
+    public static class Buyer {
+        final UUID userId = UUID.randomUUID();
+    }
+
+    @Benchmark
+    public Reservation holdThenConfirm(Buyer buyer) {
+        Reservation held = service.createHold(eventId, buyer.userId, 2);
+        Reservation confirmed = service.confirm(held.getId(), held.getUserId());
+        reservations.remove(held.getId());
+        return confirmed;
+    }
+
+    @Benchmark
+    public Reservation holdThenCancel(Buyer buyer) {
+        Reservation held = service.createHold(eventId, buyer.userId, 2);
+        Reservation canceled = service.cancel(held.getId(), held.getUserId());
+        reservations.remove(held.getId());
+        return canceled;
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Reservation holdThenCancelContended(Buyer buyer) {
+        return holdThenCancel(buyer);
+    }
+}
@@ -0,0 +1,125 @@
+package com.seathold.api.benchmark.live;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.seathold.api.common.constants.RedisKeys;
+import com.seathold.api.inventory.AvailabilityStore;
+
+/**
+ * Sixteen buyers holding seats of one event on Redis, through the event
+ * lock the hold path used to take ({@code lock}) and through the hold
+ * script ({@code script}). The {@code held}, {@code busy} and
+ * {@code soldOut} counters give the 409 rate: {@code busy} is the old
+ * "Event is busy" rejection. Only the Redis part of a hold is measured;
+ * the reservation insert is the same for both.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class HoldPathBenchmark {
+    private static final Duration HOLD_TTL = Duration.ofSeconds(2);
+    private static final Duration LOCK_TTL = Duration.ofSeconds(5);
+
+    @Param({ "lock", "script" })
+    public String path;
+
+    private ConfigurableApplicationContext app;
+    private StringRedisTemplate redis;
+    private AvailabilityStore store;
+    private UUID eventId;
+
+    @Setup
+    public void setUp() {
+        app = LiveApp.boot("--app.inventory.store=redis");
+        redis = app.getBean(StringRedisTemplate.class);
+        store = app.getBean(AvailabilityStore.class);
+        eventId = UUID.randomUUID();
+        store.init(eventId, Integer.MAX_VALUE);
+    }
+
+    @TearDown(Level.Iteration)
+    public void reap() {
+        while (!store.reapExpired(eventId, 10_000).isEmpty()) {
+            // Keep the deadline index from growing across iterations.
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        redis.delete(RedisKeys.eventAvailable(eventId));
+        redis.delete(RedisKeys.eventHolds(eventId));
+        app.close();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long held;
+        public long busy;
+        public long soldOut;
+        final UUID userId = UUID.randomUUID();
+    }
+
+    @Benchmark
+    public void hold(Outcomes outcomes) {
+        if (path.equals("lock")) {
+            holdWithLock(outcomes);
+        } else {
+            holdWithScript(outcomes);
+        }
+    }
+
+    private void holdWithScript(Outcomes outcomes) {
+        long remaining = store.hold(eventId, UUID.randomUUID(), outcomes.userId, 1, null, HOLD_TTL);
+        if (remaining >= 0) {
+            outcomes.held++;
+        } else {
+            outcomes.soldOut++;
+        }
+    }
+
+    /**
+     * The hold path before the script: lock, read, decrement, compensate on
+     * oversell, write the hold, unlock.
+     */
+    private void holdWithLock(Outcomes outcomes) {
+        String lockKey = "event:" + eventId + ":lock";
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(lockKey, token, LOCK_TTL))) {
+            outcomes.busy++;
+            return;
+        }
+        try {
+            String availableKey = RedisKeys.eventAvailable(eventId);
+            redis.opsForValue().get(availableKey);
+            Long remaining = redis.opsForValue().decrement(availableKey, 1);
+            if (remaining == null || remaining < 0) {
+                redis.opsForValue().increment(availableKey, 1);
+                outcomes.soldOut++;
+                return;
+            }
+            redis.opsForValue().set(RedisKeys.hold(UUID.randomUUID()), eventId + ":1", HOLD_TTL);
+            outcomes.held++;
+        } finally {
+            redis.delete(lockKey);
+        }
+    }
+}
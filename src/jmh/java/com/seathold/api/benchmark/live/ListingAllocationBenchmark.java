@@ -0,0 +1,112 @@
+package com.seathold.api.benchmark.live;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.seathold.api.common.pagination.KeysetCursor;
+import com.seathold.api.common.response.CursorPage;
+import com.seathold.api.domain.event.Event;
+import com.seathold.api.domain.event.EventRepository;
+import com.seathold.api.domain.event.EventService;
+import com.seathold.api.domain.event.EventStatus;
+import com.seathold.api.domain.event.EventSummary;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * One listing page of {@value #PAGE} published events, selected as
+ * {@link EventSummary} projections ({@code summaries}) and as full
+ * {@link Event} entities in a read-only transaction, as listings did before
+ * ({@code entities}). Every event has a description, as real ones do. Read
+ * {@code gc.alloc.rate.norm} for the allocation per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListingAllocationBenchmark {
+    private static final int PAGE = 20;
+    private static final int EVENTS = 200;
+    private static final String ENTITY_PAGE = """
+            select e from Event e
+             where e.status = :status
+               and lower(e.city) = lower(:city)
+               and (e.startsAt, e.id) > (:afterStartsAt, :afterId)
+             order by e.startsAt, e.id
+            """;
+
+    private ConfigurableApplicationContext app;
+    private EventService eventService;
+    private EventRepository eventRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+    private String city;
+    private List<UUID> eventIds;
+
+    @Setup
+    public void setUp() {
+        app = LiveApp.boot();
+        eventService = app.getBean(EventService.class);
+        eventRepository = app.getBean(EventRepository.class);
+        entityManager = app.getBean(EntityManager.class);
+        readOnly = new TransactionTemplate(app.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        city = "Bench-" + UUID.randomUUID();
+        String description = "Lorem ipsum dolor sit amet. ".repeat(80);
+        LocalDateTime startsAt = LocalDateTime.now().plusDays(30).withNano(0);
+        List<Event> events = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            events.add(Event.builder()
+                    .status(EventStatus.PUBLISHED)
+                    .title("Listing benchmark " + i)
+                    .description(description)
+                    .venue("Estadio Nacional")
+                    .city(city)
+                    .startsAt(startsAt.plusHours(i))
+                    .endsAt(startsAt.plusHours(i + 3))
+                    .totalCapacity(1000)
+                    .createdBy(UUID.randomUUID())
+                    .build());
+        }
+        eventIds = eventRepository.saveAll(events).stream().map(Event::getId).toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        eventRepository.deleteAllById(eventIds);
+        app.close();
+    }
+
+    @Benchmark
+    public CursorPage<EventSummary> summaries() {
+        return eventService.findEventPage(EventStatus.PUBLISHED, city, null, null, null, PAGE);
+    }
+
+    @Benchmark
+    public CursorPage<Event> entities() {
+        KeysetCursor after = KeysetCursor.first();
+        List<Event> rows = readOnly.execute(status -> entityManager.createQuery(ENTITY_PAGE, Event.class)
+                .setParameter("status", EventStatus.PUBLISHED)
+                .setParameter("city", city)
+                .setParameter("afterStartsAt", after.at())
+                .setParameter("afterId", after.id())
+                .setMaxResults(PAGE + 1)
+                .getResultList());
+        return CursorPage.of(rows, PAGE, e -> new KeysetCursor(e.getStartsAt(), e.getId()).encode());
+    }
+}
@@ -0,0 +1,32 @@
+package com.seathold.api.benchmark.live;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.seathold.api.SeatholdApplication;
+
+/**
+ * Boots the app in the benchmark fork against the Redis and Postgres from
+ * {@code docker-compose.yml}. Connection settings can be overridden with
+ * system properties in {@code jmh.jvmArgsAppend}, e.g.
+ * {@code -Dspring.datasource.url=...}. The reconciler is off so it doesn't
+ * read the counters being measured.
+ */
+final class LiveApp {
+
+    private LiveApp() {
+    }
+
+    static ConfigurableApplicationContext boot(String... overrides) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--management.server.port=0",
+                "--app.inventory.reconcile.enabled=false",
+                "--logging.level.com.seathold=WARN"));
+        args.addAll(List.of(overrides));
+        return SpringApplication.run(SeatholdApplication.class, args.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,100 @@
+package com.seathold.api.benchmark.live;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.seathold.api.benchmark.AvailabilityStoreBenchmark;
+import com.seathold.api.common.constants.RedisKeys;
+import com.seathold.api.domain.event.Event;
+import com.seathold.api.domain.event.EventRepository;
+import com.seathold.api.domain.event.EventStatus;
+import com.seathold.api.inventory.AvailabilityStore;
+
+/**
+ * {@link AvailabilityStoreBenchmark}'s hold and release, run against each
+ * {@code app.inventory.store} as the app wires it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StoreComparisonBenchmark {
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    @Param({ "memory", "redis", "postgres" })
+    public String store;
+
+    private ConfigurableApplicationContext app;
+    private AvailabilityStore availabilityStore;
+    private EventRepository eventRepository;
+    private UUID eventId;
+
+    @Setup
+    public void setUp() {
+        app = LiveApp.boot("--app.inventory.store=" + store);
+        availabilityStore = app.getBean(AvailabilityStore.class);
+        eventRepository = app.getBean(EventRepository.class);
+
+        // The Postgres store keeps its counter on the event row.
+        LocalDateTime startsAt = LocalDateTime.now().plusDays(30).withNano(0);
+        eventId = eventRepository.save(Event.builder()
+                .status(EventStatus.PUBLISHED)
+                .title("Store benchmark")
+                .venue("Estadio Nacional")
+                .city("Lima")
+                .startsAt(startsAt)
+                .endsAt(startsAt.plusHours(3))
+                .totalCapacity(1_000_000)
+                .createdBy(UUID.randomUUID())
+                .build()).getId();
+        availabilityStore.init(eventId, 1_000_000);
+    }
+
+    @TearDown
+    public void tearDown() {
+        JdbcTemplate jdbcTemplate = app.getBean(JdbcTemplate.class);
+        app.getBean(TransactionTemplate.class).executeWithoutResult(status -> {
+            jdbcTemplate.update("delete from seat_holds where event_id = ?", eventId);
+            jdbcTemplate.update("delete from event_user_seats where event_id = ?", eventId);
+        });
+        eventRepository.deleteById(eventId);
+        StringRedisTemplate redis = app.getBean(StringRedisTemplate.class);
+        redis.delete(RedisKeys.eventAvailable(eventId));
+        redis.delete(RedisKeys.eventHolds(eventId));
+        app.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Buyer {
+        final UUID userId = UUID.randomUUID();
+    }
+
+    @Benchmark
+    public long holdThenRelease(Buyer buyer) {
+        UUID reservationId = UUID.randomUUID();
+        availabilityStore.hold(eventId, reservationId, buyer.userId, 2, 4, TTL);
+        return availabilityStore.release(eventId, reservationId, buyer.userId, 2);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long holdThenReleaseContended(Buyer buyer) {
+        return holdThenRelease(buyer);
+    }
+}
@@ -0,0 +1,98 @@
+package com.seathold.api.benchmark.live;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.seathold.api.common.id.UuidV7;
+
+/**
+ * Inserts into a reservations-shaped table keyed by UUIDv7 ({@code v7}) or
+ * random UUIDs ({@code v4}), in batches of {@value #BATCH} rows. The table
+ * keeps growing through the trial, so random keys increasingly land on
+ * pages that are no longer cached. The primary key index size per row is
+ * printed when the trial ends.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(UuidInsertBenchmark.BATCH)
+public class UuidInsertBenchmark {
+    static final int BATCH = 500;
+
+    @Param({ "v7", "v4" })
+    public String ids;
+
+    private ConfigurableApplicationContext app;
+    private Connection connection;
+    private String table;
+
+    @Setup
+    public void setUp() throws SQLException {
+        app = LiveApp.boot();
+        connection = app.getBean(DataSource.class).getConnection();
+        connection.setAutoCommit(false);
+        table = "bench_uuid_" + ids;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists " + table);
+            statement.execute("create table " + table + " (like reservations including all)");
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery("select count(*), pg_relation_size('" + table + "_pkey'), "
+                        + "pg_relation_size('" + table + "') from " + table)) {
+            rs.next();
+            long rows = rs.getLong(1);
+            System.out.printf("%n%s: rows=%d, pkey index=%d bytes (%.1f per row), heap=%d bytes%n",
+                    ids, rows, rs.getLong(2), rs.getLong(2) / (double) Math.max(1, rows), rs.getLong(3));
+            statement.execute("drop table " + table);
+        }
+        connection.commit();
+        connection.close();
+        app.close();
+    }
+
+    @Benchmark
+    public void insertBatch() throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement ps = connection.prepareStatement("insert into " + table
+                + " (id, event_id, user_id, quantity, status, expires_at, created_at, updated_at)"
+                + " values (?, ?, ?, 1, 'HOLD', ?, ?, ?)")) {
+            UUID eventId = UUID.randomUUID();
+            for (int i = 0; i < BATCH; i++) {
+                ps.setObject(1, ids.equals("v7") ? UuidV7.next() : UUID.randomUUID());
+                ps.setObject(2, eventId);
+                ps.setObject(3, UUID.randomUUID());
+                ps.setTimestamp(4, now);
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+        connection.commit();
+    }
+}
@@ -0,0 +1,78 @@
+package com.seathold.api.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Minimal JSON client for the public API. Every call returns the status and
+ * the parsed body; failing statuses are left to the caller.
+ */
+final class ApiClient {
+    private final HttpClient http;
+    private final ObjectMapper json = new ObjectMapper();
+    private final String baseUrl;
+
+    ApiClient(String baseUrl, ExecutorService executor) {
+        this.baseUrl = baseUrl;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(executor)
+                .build();
+    }
+
+    Response get(String path, String token) throws IOException, InterruptedException {
+        return send(request(path, token).GET());
+    }
+
+    Response post(String path, String token, Map<String, ?> body) throws IOException, InterruptedException {
+        return send(request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(json.writeValueAsBytes(body))));
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private Response send(HttpRequest.Builder builder) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = http.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        byte[] body = response.body();
+        return new Response(response.statusCode(), body.length == 0 ? json.missingNode() : json.readTree(body));
+    }
+
+    record Response(int status, JsonNode body) {
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+
+        JsonNode data() {
+            return body.path("data");
+        }
+
+        String message() {
+            return body.path("data").path("message").asText("");
+        }
+
+        Response orThrow(String what) {
+            if (!ok()) {
+                throw new IllegalStateException(what + " failed: status=" + status + ", body=" + body);
+            }
+            return this;
+        }
+    }
+}
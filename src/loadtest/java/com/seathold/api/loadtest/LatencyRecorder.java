@@ -0,0 +1,47 @@
+package com.seathold.api.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps every sample of one operation in a preallocated array, so recording
+ * never allocates or locks and percentiles are exact.
+ */
+final class LatencyRecorder {
+    private final String name;
+    private final long[] nanos;
+    private final AtomicInteger count = new AtomicInteger();
+
+    LatencyRecorder(String name, int capacity) {
+        this.name = name;
+        this.nanos = new long[capacity];
+    }
+
+    void record(long elapsedNanos) {
+        int i = count.getAndIncrement();
+        if (i < nanos.length) {
+            nanos[i] = elapsedNanos;
+        }
+    }
+
+    int count() {
+        return Math.min(count.get(), nanos.length);
+    }
+
+    String summary() {
+        int n = count();
+        if (n == 0) {
+            return String.format("%-8s n=0", name);
+        }
+        long[] sorted = Arrays.copyOf(nanos, n);
+        Arrays.sort(sorted);
+        return String.format("%-8s n=%-7d p50=%8.2fms  p99=%8.2fms  p999=%8.2fms  max=%8.2fms",
+                name, n, millis(sorted, 0.50), millis(sorted, 0.99), millis(sorted, 0.999),
+                sorted[n - 1] / 1e6);
+    }
+
+    private static double millis(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+}
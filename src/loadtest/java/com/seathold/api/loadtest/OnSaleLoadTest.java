@@ -0,0 +1,316 @@
+package com.seathold.api.loadtest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.seathold.api.SeatholdApplication;
+
+/**
+ * Replays an on-sale: registers buyers, publishes one event, then lets every
+ * buyer fire its holds at the same instant from its own virtual thread and
+ * confirm or cancel each one. Prints latency percentiles, throughput and the
+ * 409 reasons, and fails if confirmed and held seats together ever exceeded
+ * what the event has.
+ *
+ * <p>Without {@code --base-url} the app is booted in this JVM against the
+ * Redis and Postgres from {@code docker-compose.yml}. Options are
+ * {@code --name=value}; {@code --app.*} and {@code --spring.*} options are
+ * passed to the booted app, so {@code --spring.threads.virtual.enabled=false}
+ * compares against Tomcat's platform thread pool.
+ */
+public final class OnSaleLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        List<String> appArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--app.") || arg.startsWith("--spring.")) {
+                appArgs.add(arg);
+            } else if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+
+        ConfigurableApplicationContext app = null;
+        String baseUrl = options.get("base-url");
+        if (baseUrl == null) {
+            app = boot(appArgs);
+            baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+        }
+
+        boolean held;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            held = new OnSaleLoadTest(options, new ApiClient(baseUrl, executor), executor).run();
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+        }
+        System.exit(held ? 0 : 1);
+    }
+
+    /**
+     * Boots the app on a random port. Register and login limits are lifted
+     * so setup isn't throttled; the holds limit stays as configured.
+     */
+    private static ConfigurableApplicationContext boot(List<String> appArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--management.server.port=0",
+                "--app.rate-limit.limits.register.per-minute=1000000",
+                "--app.rate-limit.limits.register.burst=1000000",
+                "--app.rate-limit.limits.login.per-minute=1000000",
+                "--app.rate-limit.limits.login.burst=1000000",
+                "--logging.level.com.seathold=WARN"));
+        args.addAll(appArgs);
+        return SpringApplication.run(SeatholdApplication.class, args.toArray(String[]::new));
+    }
+
+    private final ApiClient api;
+    private final ExecutorService executor;
+    private final int users;
+    private final int holdsPerUser;
+    private final int capacity;
+    private final int maxPerUser;
+    private final int maxQuantity;
+    private final double confirmRatio;
+    private final String adminEmail;
+    private final String adminPassword;
+
+    private final LatencyRecorder holdLatency;
+    private final LatencyRecorder confirmLatency;
+    private final LatencyRecorder cancelLatency;
+    private final Map<String, LongAdder> conflicts = new ConcurrentHashMap<>();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicLong confirmedSeats = new AtomicLong();
+    private final AtomicLong grantedSeats = new AtomicLong();
+    private final AtomicLong peakGrantedSeats = new AtomicLong();
+    private final AtomicInteger holdsInFlight = new AtomicInteger();
+    private final AtomicInteger maxHoldsInFlight = new AtomicInteger();
+
+    private OnSaleLoadTest(Map<String, String> options, ApiClient api, ExecutorService executor) {
+        this.api = api;
+        this.executor = executor;
+        this.users = Integer.parseInt(options.getOrDefault("users", "500"));
+        this.holdsPerUser = Integer.parseInt(options.getOrDefault("holds-per-user", "2"));
+        this.capacity = Integer.parseInt(options.getOrDefault("capacity", "1000"));
+        this.maxPerUser = Integer.parseInt(options.getOrDefault("max-per-user", "4"));
+        this.maxQuantity = Integer.parseInt(options.getOrDefault("max-quantity", "2"));
+        this.confirmRatio = Double.parseDouble(options.getOrDefault("confirm-ratio", "0.7"));
+        this.adminEmail = options.getOrDefault("admin-email", "admin@seathold.com");
+        this.adminPassword = options.getOrDefault("admin-password", "admin123");
+
+        int operations = users * holdsPerUser;
+        this.holdLatency = new LatencyRecorder("hold", operations);
+        this.confirmLatency = new LatencyRecorder("confirm", operations);
+        this.cancelLatency = new LatencyRecorder("cancel", operations);
+    }
+
+    private boolean run() throws Exception {
+        String adminToken = login(adminEmail, adminPassword);
+        UUID eventId = publishEvent(adminToken);
+        List<String> tokens = registerBuyers();
+        System.out.printf("Event %s: capacity=%d, buyers=%d, holds per buyer=%d%n",
+                eventId, capacity, users, holdsPerUser);
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> buyers = new ArrayList<>(users);
+        for (String token : tokens) {
+            buyers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < holdsPerUser; i++) {
+                    buy(eventId, token);
+                }
+                return null;
+            }));
+        }
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> buyer : buyers) {
+            buyer.get();
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+
+        report(seconds);
+        return checkInvariant(eventId);
+    }
+
+    private void buy(UUID eventId, String token) throws Exception {
+        int quantity = ThreadLocalRandom.current().nextInt(1, maxQuantity + 1);
+        maxHoldsInFlight.accumulateAndGet(holdsInFlight.incrementAndGet(), Math::max);
+        long begin = System.nanoTime();
+        ApiClient.Response hold = api.post("/api/events/" + eventId + "/holds", token, Map.of("quantity", quantity));
+        holdLatency.record(System.nanoTime() - begin);
+        holdsInFlight.decrementAndGet();
+        if (!hold.ok()) {
+            tally(hold);
+            return;
+        }
+        peakGrantedSeats.accumulateAndGet(grantedSeats.addAndGet(quantity), Math::max);
+
+        String reservationId = hold.data().path("reservationId").asText();
+        boolean confirm = ThreadLocalRandom.current().nextDouble() < confirmRatio;
+        LatencyRecorder latency = confirm ? confirmLatency : cancelLatency;
+        if (!confirm) {
+            // Given up before the server can hand the seats to someone else,
+            // so a release is never mistaken for an oversell.
+            grantedSeats.addAndGet(-quantity);
+        }
+        begin = System.nanoTime();
+        ApiClient.Response outcome = api.post(
+                "/api/reservations/" + reservationId + (confirm ? "/confirm" : "/cancel"), token, Map.of());
+        latency.record(System.nanoTime() - begin);
+
+        if (outcome.ok()) {
+            if (confirm) {
+                confirmedSeats.addAndGet(quantity);
+            }
+            return;
+        }
+        tally(outcome);
+        if (outcome.status() == 409 && confirm) {
+            // Expired or already released.
+            grantedSeats.addAndGet(-quantity);
+        } else if (outcome.status() != 409 && !confirm) {
+            // The hold may still be live; count it until it expires.
+            grantedSeats.addAndGet(quantity);
+        }
+    }
+
+    private void tally(ApiClient.Response response) {
+        if (response.status() == 409) {
+            conflicts.computeIfAbsent(response.message(), k -> new LongAdder()).increment();
+        } else {
+            errors.increment();
+        }
+    }
+
+    private void report(double seconds) {
+        long requests = holdLatency.count() + confirmLatency.count() + cancelLatency.count();
+        System.out.printf("%nBurst took %.2fs, %d requests, %.0f req/s, max holds in flight %d%n",
+                seconds, requests, requests / seconds, maxHoldsInFlight.get());
+        System.out.println(holdLatency.summary());
+        System.out.println(confirmLatency.summary());
+        System.out.println(cancelLatency.summary());
+
+        System.out.println("\n409 responses:");
+        Map<String, Long> sorted = new TreeMap<>();
+        conflicts.forEach((message, count) -> sorted.put(message, count.sum()));
+        sorted.forEach((message, count) -> System.out.printf("  %-45s %d%n", message, count));
+        System.out.printf("Other failures: %d%n", errors.sum());
+    }
+
+    /**
+     * Confirmed plus held seats may never have exceeded capacity, and the
+     * counter must account for every seat the buyers were told they got.
+     * Granted seats count holds from their success until their cancel is
+     * sent or their confirm finds them expired, so the peak can only
+     * undercount what the server had out; holds expiring unnoticed during
+     * the burst would overcount, but the hold TTL outlasts the burst.
+     */
+    private boolean checkInvariant(UUID eventId) throws Exception {
+        ApiClient.Response event = api.get("/api/events/" + eventId, null).orThrow("Reading event");
+        long available = event.data().path("availableSeats").asLong(-1);
+        long confirmed = confirmedSeats.get();
+        long held = grantedSeats.get() - confirmed;
+        long peak = peakGrantedSeats.get();
+
+        System.out.printf("%nconfirmed=%d, held=%d, peak confirmed + held=%d, available=%d, capacity=%d%n",
+                confirmed, held, peak, available, capacity);
+        if (peak > capacity) {
+            System.out.println("INVARIANT VIOLATED: confirmed + held exceeded capacity");
+            return false;
+        }
+        if (confirmed > capacity || available > capacity - confirmed) {
+            System.out.println("INVARIANT VIOLATED: the counter returned seats that were sold");
+            return false;
+        }
+        if (available < capacity - confirmed - held) {
+            System.out.println("INVARIANT VIOLATED: the counter lost seats nobody holds");
+            return false;
+        }
+        System.out.println("Invariant held");
+        return true;
+    }
+
+    private UUID publishEvent(String adminToken) throws Exception {
+        LocalDateTime startsAt = LocalDateTime.now().plusDays(30).withNano(0);
+        Map<String, Object> event = new HashMap<>();
+        event.put("title", "Load test " + startsAt);
+        event.put("venue", "Estadio Nacional");
+        event.put("city", "Lima");
+        event.put("startsAt", startsAt.toString());
+        event.put("endsAt", startsAt.plusHours(3).toString());
+        event.put("totalCapacity", capacity);
+        event.put("maxPerUser", maxPerUser);
+
+        UUID eventId = UUID.fromString(api.post("/api/admin/events", adminToken, event)
+                .orThrow("Creating event").data().path("id").asText());
+        api.post("/api/admin/events/" + eventId + "/publish", adminToken, Map.of()).orThrow("Publishing event");
+
+        // Seats are set up asynchronously after publishing.
+        for (int attempt = 0; attempt < 50; attempt++) {
+            ApiClient.Response read = api.get("/api/events/" + eventId, null);
+            if (read.ok() && read.data().path("availableSeats").asInt(-1) == capacity) {
+                return eventId;
+            }
+            Thread.sleep(100);
+        }
+        throw new IllegalStateException("Seats of event " + eventId + " were not initialized");
+    }
+
+    /**
+     * Registers and logs in the buyers, a few at a time since both hash
+     * passwords.
+     */
+    private List<String> registerBuyers() throws Exception {
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        Semaphore permits = new Semaphore(32);
+        List<Future<String>> tokens = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            String email = "loadtest-" + run + "-" + i + "@example.com";
+            tokens.add(executor.submit(() -> {
+                permits.acquire();
+                try {
+                    api.post("/api/auth/register", null, Map.of(
+                            "email", email,
+                            "password", "loadtest",
+                            "firstName", "Load",
+                            "lastName", "Test")).orThrow("Registering " + email);
+                    return login(email, "loadtest");
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+        List<String> result = new ArrayList<>(users);
+        for (Future<String> token : tokens) {
+            result.add(token.get());
+        }
+        return result;
+    }
+
+    private String login(String email, String password) throws Exception {
+        return api.post("/api/auth/login", null, Map.of("email", email, "password", password))
+                .orThrow("Logging in " + email)
+                .data().path("token").asText();
+    }
+}
@@ -1,5 +1,7 @@
 package com.seathold.api.auth;
 
+import java.util.Locale;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -16,8 +18,10 @@ import com.seathold.api.common.response.ApiResponseFactory;
 import com.seathold.api.domain.user.UserRole;
 import com.seathold.api.domain.user.User;
 import com.seathold.api.domain.user.UserRepository;
+import com.seathold.api.ratelimit.RateLimiter;
 import com.seathold.api.security.JwtService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,10 +35,12 @@ public class AuthController {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final RateLimiter rateLimiter;
 
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest request) {
         log.info("Login attempt for email: {}", request.email());
+        rateLimiter.check("login", request.email().toLowerCase(Locale.ROOT));
 
         User user = userRepository.findByEmail(request.email())
                 .orElseThrow(() -> new SecurityExcepction("Invalid credentials"));
@@ -59,8 +65,10 @@ public class AuthController {
     }
 
     @PostMapping("/register")
-    public ResponseEntity<ApiResponse<RegisterResponse>> register(@Valid @RequestBody RegisterRequest request) {
+    public ResponseEntity<ApiResponse<RegisterResponse>> register(@Valid @RequestBody RegisterRequest request,
+            HttpServletRequest httpRequest) {
         log.info("Registration attempt for email: {}", request.email());
+        rateLimiter.check("register", httpRequest.getRemoteAddr());
 
         if (userRepository.existsByEmail(request.email())) {
             throw new ConflictException("Email already exists");
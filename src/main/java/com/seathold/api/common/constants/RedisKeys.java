@@ -10,15 +10,31 @@ public final class RedisKeys {
         return "event:" + eventId + ":available";
     }
 
-    public static String eventLock(UUID eventId) {
-        return "lock:event:" + eventId;
+    public static String eventHolds(UUID eventId) {
+        return "event:" + eventId + ":holds";
+    }
+
+    public static String eventUserSeats(UUID eventId, UUID userId) {
+        return "event:" + eventId + ":user:" + userId + ":seats";
+    }
+
+    public static String holdEvents() {
+        return "holds:events";
     }
 
     public static String hold(UUID reservationId) {
         return "hold:" + reservationId;
     }
 
-    public static String rateLimitUserMinute(UUID userId, String minuteKey) {
-        return "rl:user:" + userId + ":" + minuteKey;
+    public static String eventInvalidationChannel() {
+        return "events:invalidate";
+    }
+
+    public static String availabilityChannel() {
+        return "events:availability";
+    }
+
+    public static String rateLimit(String endpoint, String subject) {
+        return "rl:" + endpoint + ":" + subject;
     }
 }
@@ -0,0 +1,44 @@
+package com.seathold.api.common.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUIDv7 (RFC 9562) ids. The 12-bit {@code rand_a} field is a
+ * sequence within the millisecond, so ids from this JVM are strictly
+ * increasing and new rows land on the right edge of primary-key indexes.
+ */
+public final class UuidV7 {
+    private static final int SEQUENCE_BITS = 12;
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static UUID next() {
+        long stamp = nextStamp(System.currentTimeMillis());
+        long millis = stamp >>> SEQUENCE_BITS;
+        long sequence = stamp & ((1L << SEQUENCE_BITS) - 1);
+
+        long msb = (millis << 16) | 0x7000L | sequence;
+        long lsb = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Returns {@code millis << 12 | sequence}, strictly greater than the last
+     * one handed out. A sequence overflow borrows the next millisecond.
+     */
+    private static long nextStamp(long nowMillis) {
+        long floor = nowMillis << SEQUENCE_BITS;
+        while (true) {
+            long last = LAST.get();
+            long next = Math.max(floor, last + 1);
+            if (LAST.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
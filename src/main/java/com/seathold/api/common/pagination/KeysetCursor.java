@@ -0,0 +1,48 @@
+package com.seathold.api.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.seathold.api.common.exception.BadRequestException;
+
+/**
+ * Position in a listing ordered by {@code (at, id)}. Clients only see the
+ * opaque {@link #encode() encoded} form.
+ */
+public record KeysetCursor(LocalDateTime at, UUID id) {
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+    private static final UUID MAX_ID = new UUID(-1L, -1L);
+
+    /**
+     * Cursor that sorts before every row, for the first page of an ascending
+     * listing.
+     */
+    public static KeysetCursor first() {
+        return new KeysetCursor(LocalDateTime.of(1970, 1, 1, 0, 0), MIN_ID);
+    }
+
+    /**
+     * Cursor that sorts after every row, for the first page of a descending
+     * listing.
+     */
+    public static KeysetCursor last() {
+        return new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59), MAX_ID);
+    }
+
+    public String encode() {
+        String raw = at + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int comma = raw.indexOf(',');
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, comma)), UUID.fromString(raw.substring(comma + 1)));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.seathold.api.common.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing. There is no total count; pass
+ * {@code nextCursor} back to get the following page.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor) {
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * Builds a page from up to {@code size + 1} rows; the extra row only
+     * signals that there is a next page.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorPage<>(content, size, hasNext, nextCursor);
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(content.stream().map(mapper).toList(), size, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,124 @@
+package com.seathold.api.common.timing;
+
+import java.util.Locale;
+
+/**
+ * Per-request time spent in JWT verification, the database, Redis and
+ * response serialization, kept in a thread local by
+ * {@link RequestTimingFilter}. Instrumented code brackets its work with
+ * {@link #start} and {@link #stop}; both only read a flag when timing is off
+ * and never allocate. Nested calls of the same phase, like the commands of a
+ * Redis pipeline, count once.
+ */
+public final class RequestTiming {
+
+    public enum Phase {
+        JWT("jwt"),
+        DB("db"),
+        REDIS("redis"),
+        SERIALIZE("serialize");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+    private static volatile boolean enabled;
+
+    private final long startedAt = System.nanoTime();
+    private final long[] nanos = new long[PHASES.length];
+    private final int[] calls = new int[PHASES.length];
+    private final boolean[] running = new boolean[PHASES.length];
+
+    private RequestTiming() {
+    }
+
+    static void setEnabled(boolean on) {
+        enabled = on;
+    }
+
+    /**
+     * @return a start time to pass to {@link #stop}, or 0 if this call is not
+     *         timed
+     */
+    public static long start(Phase phase) {
+        if (!enabled) {
+            return 0L;
+        }
+        RequestTiming timing = CURRENT.get();
+        if (timing == null || timing.running[phase.ordinal()]) {
+            return 0L;
+        }
+        timing.running[phase.ordinal()] = true;
+        return System.nanoTime();
+    }
+
+    public static void stop(Phase phase, long startedAt) {
+        if (startedAt == 0L) {
+            return;
+        }
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            int i = phase.ordinal();
+            timing.running[i] = false;
+            timing.nanos[i] += System.nanoTime() - startedAt;
+            timing.calls[i]++;
+        }
+    }
+
+    /**
+     * @return the timing of the current request, or {@code null} outside of
+     *         a timed request
+     */
+    public static RequestTiming current() {
+        return enabled ? CURRENT.get() : null;
+    }
+
+    static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startedAt;
+    }
+
+    /**
+     * @return the {@code Server-Timing} header value, with {@code app} for
+     *         the time spent so far
+     */
+    public String toHeader() {
+        StringBuilder header = new StringBuilder(96);
+        for (Phase phase : PHASES) {
+            int i = phase.ordinal();
+            if (calls[i] > 0) {
+                header.append(phase.label).append(";dur=").append(millis(nanos[i]))
+                        .append(";desc=\"").append(calls[i]).append("\", ");
+            }
+        }
+        return header.append("app;dur=").append(millis(elapsedNanos())).toString();
+    }
+
+    String toLogFields() {
+        StringBuilder fields = new StringBuilder(128).append("totalMs=").append(millis(elapsedNanos()));
+        for (Phase phase : PHASES) {
+            int i = phase.ordinal();
+            fields.append(", ").append(phase.label).append("Ms=").append(millis(nanos[i]))
+                    .append(", ").append(phase.label).append("Calls=").append(calls[i]);
+        }
+        return fields.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1e6);
+    }
+}
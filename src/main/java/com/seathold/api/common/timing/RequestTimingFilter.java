@@ -0,0 +1,63 @@
+package com.seathold.api.common.timing;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Times every request with a {@link RequestTiming}, sends the breakdown as
+ * a {@code Server-Timing} header and logs one line for each request slower
+ * than {@code slow-threshold-ms}. JSON bodies get the header from
+ * {@link TimedJsonHttpMessageConverter} so it includes serialization; other
+ * responses get it here if they are not committed yet.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class RequestTimingFilter extends OncePerRequestFilter {
+    static final String HEADER = "Server-Timing";
+
+    private final boolean enabled;
+    private final long slowThresholdNanos;
+
+    public RequestTimingFilter(
+            @Value("${app.request-timing.enabled:true}") boolean enabled,
+            @Value("${app.request-timing.slow-threshold-ms:500}") long slowThresholdMillis) {
+        this.enabled = enabled;
+        this.slowThresholdNanos = slowThresholdMillis * 1_000_000L;
+        RequestTiming.setEnabled(enabled);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!enabled) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        RequestTiming timing = RequestTiming.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestTiming.end();
+            if (!response.isCommitted() && !response.containsHeader(HEADER)) {
+                response.setHeader(HEADER, timing.toHeader());
+            }
+            if (timing.elapsedNanos() >= slowThresholdNanos && !request.isAsyncStarted()) {
+                log.warn("Slow request: method={}, path={}, status={}, {}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(), timing.toLogFields());
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.seathold.api.common.timing;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Jackson converter that, during a timed request, serializes into a buffer
+ * first so the {@code Server-Timing} header can still be set with the
+ * serialization time before the body is written. Without request timing it
+ * streams straight to the response like the default converter.
+ */
+public class TimedJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        RequestTiming timing = RequestTiming.current();
+        if (timing == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+        long startedAt = RequestTiming.start(RequestTiming.Phase.SERIALIZE);
+        try {
+            super.writeInternal(object, type, new BufferedMessage(body, outputMessage.getHeaders()));
+        } finally {
+            RequestTiming.stop(RequestTiming.Phase.SERIALIZE, startedAt);
+        }
+        outputMessage.getHeaders().set(RequestTimingFilter.HEADER, timing.toHeader());
+        body.writeTo(outputMessage.getBody());
+    }
+
+    private static final class BufferedMessage implements HttpOutputMessage {
+        private final OutputStream body;
+        private final HttpHeaders headers;
+
+        BufferedMessage(OutputStream body, HttpHeaders headers) {
+            this.body = body;
+            this.headers = headers;
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -3,13 +3,47 @@ package com.seathold.api.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.seathold.api.common.timing.RequestTiming;
+import com.seathold.api.diagnostics.RedisRoundTripEvent;
 
 @Configuration
 public class RedisConfig {
 
+    /**
+     * Every command, script and pipeline goes through
+     * {@code execute(RedisCallback, boolean, boolean)}, which is where the
+     * {@code redis} phase of {@link RequestTiming} is measured and slow round
+     * trips are recorded as {@link RedisRoundTripEvent}s.
+     */
     @Bean
     public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
-        return new StringRedisTemplate(connectionFactory);
+        return new StringRedisTemplate(connectionFactory) {
+            @Override
+            public <T> T execute(RedisCallback<T> action, boolean exposeConnection, boolean pipeline) {
+                RedisRoundTripEvent flight = new RedisRoundTripEvent();
+                flight.begin();
+                long startedAt = RequestTiming.start(RequestTiming.Phase.REDIS);
+                String outcome = "error";
+                try {
+                    T result = super.execute(action, exposeConnection, pipeline);
+                    outcome = "ok";
+                    return result;
+                } finally {
+                    RequestTiming.stop(RequestTiming.Phase.REDIS, startedAt);
+                    flight.complete(outcome);
+                }
+            }
+        };
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
     }
 }
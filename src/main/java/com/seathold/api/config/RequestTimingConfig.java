@@ -0,0 +1,50 @@
+package com.seathold.api.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seathold.api.common.timing.RequestTiming;
+import com.seathold.api.common.timing.TimedJsonHttpMessageConverter;
+
+/**
+ * Wires {@link RequestTiming} into the repositories and JSON responses.
+ * Redis commands are timed by the template in {@link RedisConfig}.
+ */
+@Configuration
+public class RequestTimingConfig {
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJsonHttpMessageConverter(objectMapper);
+    }
+
+    /**
+     * Adds the {@code db} phase around every Spring Data repository call.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryTimingPostProcessor() {
+        MethodInterceptor timed = invocation -> {
+            long startedAt = RequestTiming.start(RequestTiming.Phase.DB);
+            try {
+                return invocation.proceed();
+            } finally {
+                RequestTiming.stop(RequestTiming.Phase.DB, startedAt);
+            }
+        };
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory
+                            .addRepositoryProxyPostProcessor((proxy, repository) -> proxy.addAdvice(timed)));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -7,15 +7,19 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.seathold.api.security.JwtAuthenticationFilter;
+import com.seathold.api.security.JwtService;
+
 @Configuration
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtService jwtService) throws Exception {
         http
                 .cors(cors -> {})
                 .csrf(csrf -> csrf.disable())
@@ -30,7 +34,13 @@ public class SecurityConfig {
 
                         .requestMatchers("/api/admin/**").permitAll()
 
-                        .anyRequest().authenticated());
+                        .requestMatchers("/livez", "/readyz").permitAll()
+                        // Actuator is only reachable on the internal management port.
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        .requestMatchers("/actuator/flightrecording").hasRole("ADMIN")
+
+                        .anyRequest().authenticated())
+                .addFilterBefore(new JwtAuthenticationFilter(jwtService), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
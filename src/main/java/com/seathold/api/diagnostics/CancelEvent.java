@@ -0,0 +1,11 @@
+package com.seathold.api.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("seathold.Cancel")
+@Label("Cancel")
+@Description("ReservationService.cancel")
+public class CancelEvent extends ReservationFlightEvent {
+}
@@ -0,0 +1,11 @@
+package com.seathold.api.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("seathold.Confirm")
+@Label("Confirm")
+@Description("ReservationService.confirm")
+public class ConfirmEvent extends ReservationFlightEvent {
+}
@@ -0,0 +1,155 @@
+package com.seathold.api.diagnostics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Always-on flight recording kept as a ring buffer of the last
+ * {@code max-age}, for the {@code jfr} profile. It is written to disk when
+ * holds breach the latency SLO {@code slo.breaches} times within
+ * {@code slo.window-seconds}, or on demand through
+ * {@link FlightRecordingEndpoint}. Dumps are at least
+ * {@code dump-cooldown-seconds} apart.
+ *
+ * <p>Breaches are watched with a JFR event stream that only receives hold
+ * admissions over the SLO, so the hot path does no extra work.
+ */
+@Component
+@ConditionalOnProperty(name = "app.jfr.enabled", havingValue = "true")
+@Slf4j
+public class ContinuousRecording implements SmartLifecycle {
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final String settings;
+    private final Duration maxAge;
+    private final long maxSizeBytes;
+    private final Path dumpDir;
+    private final Duration slo;
+    private final int sloBreaches;
+    private final long sloWindowNanos;
+    private final long cooldownNanos;
+
+    private final AtomicLong lastDumpAt = new AtomicLong(System.nanoTime() - Long.MAX_VALUE / 2);
+    private long windowStartedAt;
+    private int breachesInWindow;
+    private volatile Recording recording;
+    private RecordingStream breachWatch;
+
+    public ContinuousRecording(
+            @Value("${app.jfr.settings:default}") String settings,
+            @Value("${app.jfr.max-age-seconds:60}") long maxAgeSeconds,
+            @Value("${app.jfr.max-size-mb:250}") long maxSizeMb,
+            @Value("${app.jfr.dump-dir:jfr}") String dumpDir,
+            @Value("${app.jfr.dump-cooldown-seconds:300}") long cooldownSeconds,
+            @Value("${app.jfr.slo.hold-latency-ms:250}") long sloMillis,
+            @Value("${app.jfr.slo.breaches:20}") int sloBreaches,
+            @Value("${app.jfr.slo.window-seconds:10}") long sloWindowSeconds) {
+        this.settings = settings;
+        this.maxAge = Duration.ofSeconds(maxAgeSeconds);
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.dumpDir = Path.of(dumpDir);
+        this.cooldownNanos = Duration.ofSeconds(cooldownSeconds).toNanos();
+        this.slo = Duration.ofMillis(sloMillis);
+        this.sloBreaches = sloBreaches;
+        this.sloWindowNanos = Duration.ofSeconds(sloWindowSeconds).toNanos();
+    }
+
+    @Override
+    public void start() {
+        try {
+            Recording continuous = new Recording(Configuration.getConfiguration(settings));
+            continuous.setName("seathold-continuous");
+            continuous.setToDisk(true);
+            continuous.setMaxAge(maxAge);
+            continuous.setMaxSize(maxSizeBytes);
+            continuous.start();
+            recording = continuous;
+        } catch (IOException | ParseException e) {
+            log.error("Failed to start the continuous flight recording: settings={}", settings, e);
+            return;
+        }
+
+        breachWatch = new RecordingStream();
+        breachWatch.enable(HoldAdmissionEvent.NAME).withThreshold(slo);
+        breachWatch.onEvent(HoldAdmissionEvent.NAME, event -> onBreach());
+        breachWatch.startAsync();
+        log.info("Continuous flight recording started: maxAge={}, sloMs={}", maxAge, slo.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        if (breachWatch != null) {
+            breachWatch.close();
+        }
+        Recording continuous = recording;
+        recording = null;
+        if (continuous != null) {
+            continuous.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recording != null;
+    }
+
+    /**
+     * Writes the buffered recording to {@code dump-dir}.
+     *
+     * @return the file written, or {@code null} if there is no recording or
+     *         the last dump was less than the cooldown ago
+     */
+    public Path dump(String reason) throws IOException {
+        Recording continuous = recording;
+        long now = System.nanoTime();
+        long last = lastDumpAt.get();
+        if (continuous == null || now - last < cooldownNanos || !lastDumpAt.compareAndSet(last, now)) {
+            return null;
+        }
+        Files.createDirectories(dumpDir);
+        Path file = dumpDir.resolve("seathold-" + LocalDateTime.now().format(FILE_TIME) + "-" + reason + ".jfr");
+        // Written under a temporary name so nothing picks up a partial file.
+        Path partial = dumpDir.resolve(file.getFileName() + ".part");
+        continuous.dump(partial);
+        Files.move(partial, file, StandardCopyOption.ATOMIC_MOVE);
+        log.warn("Flight recording dumped: reason={}, file={}", reason, file.toAbsolutePath());
+        return file;
+    }
+
+    /**
+     * Runs on the single stream thread, so the window needs no locking.
+     */
+    private void onBreach() {
+        long now = System.nanoTime();
+        if (now - windowStartedAt > sloWindowNanos) {
+            windowStartedAt = now;
+            breachesInWindow = 0;
+        }
+        if (++breachesInWindow < sloBreaches) {
+            return;
+        }
+        breachesInWindow = 0;
+        try {
+            dump("slo");
+        } catch (IOException e) {
+            log.error("Failed to dump the flight recording on SLO breach", e);
+        }
+    }
+}
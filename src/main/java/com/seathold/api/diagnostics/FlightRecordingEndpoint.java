@@ -0,0 +1,34 @@
+package com.seathold.api.diagnostics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code POST /actuator/flightrecording} dumps the continuous recording to
+ * disk on the node that receives it.
+ */
+@Component
+@ConditionalOnProperty(name = "app.jfr.enabled", havingValue = "true")
+@Endpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+    private final ContinuousRecording recording;
+
+    public FlightRecordingEndpoint(ContinuousRecording recording) {
+        this.recording = recording;
+    }
+
+    @WriteOperation
+    public Map<String, String> dump() throws IOException {
+        Path file = recording.dump("manual");
+        if (file == null) {
+            return Map.of("status", "skipped", "reason", "no recording or dumped too recently");
+        }
+        return Map.of("status", "dumped", "file", file.toAbsolutePath().toString());
+    }
+}
@@ -0,0 +1,12 @@
+package com.seathold.api.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(HoldAdmissionEvent.NAME)
+@Label("Hold Admission")
+@Description("ReservationService.createHold, from validation to the reservation insert")
+public class HoldAdmissionEvent extends ReservationFlightEvent {
+    public static final String NAME = "seathold.HoldAdmission";
+}
@@ -0,0 +1,32 @@
+package com.seathold.api.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("seathold.JwtVerification")
+@Label("JWT Verification")
+@Description("JwtService.authenticate")
+@Category({ "SeatHold", "Security" })
+@StackTrace(false)
+@Threshold("1 ms")
+public class JwtVerificationEvent extends Event {
+    @Label("Cached")
+    public boolean cached;
+
+    @Label("Outcome")
+    public String outcome;
+
+    public void complete(boolean cached, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.cached = cached;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
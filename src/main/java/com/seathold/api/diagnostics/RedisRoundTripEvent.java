@@ -0,0 +1,32 @@
+package com.seathold.api.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * One {@code StringRedisTemplate} execution: a command, a script or a whole
+ * pipeline. Only round trips over the threshold are recorded; the stack
+ * trace tells which caller made them, and whether through
+ * {@code executePipelined}.
+ */
+@Name("seathold.RedisRoundTrip")
+@Label("Redis Round Trip")
+@Description("A StringRedisTemplate command, script or pipeline")
+@Category({ "SeatHold", "Redis" })
+@Threshold("1 ms")
+public class RedisRoundTripEvent extends Event {
+    @Label("Outcome")
+    public String outcome;
+
+    public void complete(String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
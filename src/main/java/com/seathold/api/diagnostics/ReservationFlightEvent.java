@@ -0,0 +1,49 @@
+package com.seathold.api.diagnostics;
+
+import java.util.UUID;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Fields shared by the reservation events. They are only filled in when
+ * {@link #shouldCommit()} is true, so nothing is formatted while no
+ * recording is running. Like the rest of our events they are only recorded
+ * over a threshold, so the continuous recording keeps the slow calls rather
+ * than one event per request; a recording can lower it to {@code 0 ms}.
+ */
+@Category({ "SeatHold", "Reservations" })
+@StackTrace(false)
+@Threshold("10 ms")
+public abstract class ReservationFlightEvent extends Event {
+    @Label("Event Id")
+    public String eventId;
+
+    @Label("Reservation Id")
+    public String reservationId;
+
+    @Label("Quantity")
+    public int quantity;
+
+    @Label("Outcome")
+    public String outcome;
+
+    /**
+     * Ends the event and commits it if a recording wants it. Ids may be
+     * {@code null} when the call failed before they were known.
+     */
+    public void complete(UUID eventId, UUID reservationId, int quantity, String outcome) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.eventId = eventId == null ? null : eventId.toString();
+        this.reservationId = reservationId == null ? null : reservationId.toString();
+        this.quantity = quantity;
+        this.outcome = outcome;
+        commit();
+    }
+}
@@ -15,12 +15,11 @@ import com.seathold.api.common.response.ApiResponse;
 import com.seathold.api.common.response.ApiResponseFactory;
 import com.seathold.api.domain.event.dto.CreateEventRequest;
 import com.seathold.api.domain.event.dto.EventResponse;
+import com.seathold.api.domain.event.dto.EventSummaryResponse;
 import com.seathold.api.domain.event.dto.UpdateEventRequest;
-import com.seathold.api.security.JwtService;
 import com.seathold.api.security.RoleValidator;
 import com.seathold.api.security.RoleValidator.UserInfo;
 
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 
@@ -38,25 +37,25 @@ public class AdminEventController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<EventResponse>>> list(
+    public ResponseEntity<ApiResponse<List<EventSummaryResponse>>> list(
             @RequestParam(required = false) EventStatus status,
             @RequestParam(required = false) String city,
             @PageableDefault(size = 20) Pageable pageable) {
 
         log.info("GET /api/admin/events - status: {}, city: {}, page: {}",
                 status, city, pageable.getPageNumber());
-        List<EventResponse> events;
+        List<EventSummaryResponse> events;
 
         if (status != null || city != null) {
-            Page<Event> eventPage = eventService.findEvents(status, city, null, null, pageable);
+            Page<EventSummary> eventPage = eventService.findEvents(status, city, pageable);
             events = eventPage.getContent()
                     .stream()
-                    .map(this::toResponse)
+                    .map(this::toSummaryResponse)
                     .collect(Collectors.toList());
         } else {
             events = eventService.findAll()
                     .stream()
-                    .map(this::toResponse)
+                    .map(this::toSummaryResponse)
                     .collect(Collectors.toList());
         }
         log.info("Found {} events", events.size());
@@ -71,13 +70,10 @@ public class AdminEventController {
     }
 
     @PostMapping
-    public ResponseEntity<ApiResponse<EventResponse>> create(@Valid @RequestBody CreateEventRequest req,
-            HttpServletRequest request) {
+    public ResponseEntity<ApiResponse<EventResponse>> create(@Valid @RequestBody CreateEventRequest req) {
         log.info("POST /api/admin/events - title: '{}'", req.title());
 
-        roleValidator.requireAdminRole(request);
-
-        UserInfo userInfo = roleValidator.extractUserInfo(request);
+        UserInfo userInfo = roleValidator.requireAdminRole();
 
         log.info("POST /api/admin/events - title: '{}' with ADMIN: {}",
                 req.title(), userInfo.email());
@@ -90,6 +86,7 @@ public class AdminEventController {
                 .startsAt(req.startsAt())
                 .endsAt(req.endsAt())
                 .totalCapacity(req.totalCapacity())
+                .maxPerUser(req.maxPerUser())
                 .createdBy(userInfo.userId())
                 .status(EventStatus.DRAFT)
                 .build();
@@ -101,12 +98,10 @@ public class AdminEventController {
 
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<EventResponse>> update(@PathVariable UUID id,
-            @Valid @RequestBody UpdateEventRequest req, HttpServletRequest request) {
+            @Valid @RequestBody UpdateEventRequest req) {
         log.info("PUT /api/admin/events/{}", id);
 
-        roleValidator.requireAdminRole(request);
-
-        UserInfo userInfo = roleValidator.extractUserInfo(request);
+        UserInfo userInfo = roleValidator.requireAdminRole();
 
         log.info("PUT /api/admin/events - title: '{}' with ADMIN: {}",
                 req.title(), userInfo.email());
@@ -119,6 +114,7 @@ public class AdminEventController {
                 .startsAt(req.startsAt())
                 .endsAt(req.endsAt())
                 .totalCapacity(req.totalCapacity() == null ? 0 : req.totalCapacity())
+                .maxPerUser(req.maxPerUser())
                 .build();
         Event updated = eventService.update(id, patch);
         log.info("Event updated successfully: id={}", id);
@@ -127,12 +123,10 @@ public class AdminEventController {
     }
 
     @PostMapping("/{id}/publish")
-    public ResponseEntity<ApiResponse<EventResponse>> publish(@PathVariable UUID id, HttpServletRequest request) {
-        roleValidator.requireAdminRole(request);
+    public ResponseEntity<ApiResponse<EventResponse>> publish(@PathVariable UUID id) {
+        UserInfo userInfo = roleValidator.requireAdminRole();
         log.info("POST /api/admin/events/{}/publish", id);
 
-        UserInfo userInfo = roleValidator.extractUserInfo(request);
-
         log.info("POST /api/admin/events/{}/publish with ADMIN: {}", id, userInfo.email());
 
         Event publish = eventService.publish(id);
@@ -142,9 +136,9 @@ public class AdminEventController {
     }
 
     @PostMapping("/{id}/cancel")
-    public ResponseEntity<ApiResponse<EventResponse>> cancel(@PathVariable UUID id, HttpServletRequest request) {
+    public ResponseEntity<ApiResponse<EventResponse>> cancel(@PathVariable UUID id) {
         log.info("POST /api/admin/events/{}/cancel", id);
-        roleValidator.requireAdminRole(request);
+        roleValidator.requireAdminRole();
 
         Event canceled = eventService.cancel(id);
         log.info("Event cancelled successfully: id={}", id);
@@ -153,10 +147,10 @@ public class AdminEventController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<ApiResponse<Void>> delete(@PathVariable UUID id, HttpServletRequest request) {
+    public ResponseEntity<ApiResponse<Void>> delete(@PathVariable UUID id) {
 
         log.info("DELETE /api/admin/events/{}", id);
-        roleValidator.requireAdminRole(request);
+        roleValidator.requireAdminRole();
 
         eventService.delete(id);
         log.info("Event deleted successfully: id={}", id);
@@ -173,6 +167,21 @@ public class AdminEventController {
                 e.getCity(),
                 e.getStartsAt(),
                 e.getEndsAt(),
-                e.getTotalCapacity());
+                e.getTotalCapacity(),
+                e.getMaxPerUser());
+    }
+
+    private EventSummaryResponse toSummaryResponse(EventSummary e) {
+        return new EventSummaryResponse(
+                e.id(),
+                e.status().name(),
+                e.title(),
+                e.venue(),
+                e.city(),
+                e.startsAt(),
+                e.endsAt(),
+                e.totalCapacity(),
+                e.maxPerUser(),
+                null);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,225 @@
+package com.seathold.api.domain.event;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.seathold.api.common.constants.RedisKeys;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fans seat counter changes out to server-sent event subscribers. Each node
+ * holds one Redis subscription; updates are coalesced per event and pushed
+ * at most {@code max-pushes-per-second} times, carrying only the latest
+ * count. Idle connections are async requests and hold no servlet thread.
+ *
+ * <p>Each subscriber is written to from its own virtual thread, so a slow
+ * client only delays itself. It is sent the latest count once its previous
+ * write completes, and dropped when a write takes longer than
+ * {@code send-timeout-ms}.
+ */
+@Component
+@Slf4j
+public class AvailabilityStreams implements SmartLifecycle {
+    private static final long NOTHING_TO_SEND = Long.MIN_VALUE;
+
+    private final long timeoutMillis;
+    private final long pushIntervalMillis;
+    private final long sendTimeoutNanos;
+
+    private final ConcurrentHashMap<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Long> pending = new ConcurrentHashMap<>();
+    private final ExecutorService writers = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("availability-stream-writer-", 0).factory());
+    private volatile boolean running;
+    private ScheduledExecutorService pusher;
+
+    public AvailabilityStreams(
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${app.availability-stream.max-pushes-per-second:4}") int maxPushesPerSecond,
+            @Value("${app.availability-stream.timeout-seconds:1800}") long timeoutSeconds,
+            @Value("${app.availability-stream.send-timeout-ms:5000}") long sendTimeoutMillis) {
+        this.timeoutMillis = TimeUnit.SECONDS.toMillis(timeoutSeconds);
+        this.pushIntervalMillis = Math.max(1, 1000 / maxPushesPerSecond);
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onUpdate(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(RedisKeys.availabilityChannel()));
+    }
+
+    /**
+     * Opens a stream for an event, starting with {@code current} seats when
+     * known.
+     */
+    public SseEmitter subscribe(UUID eventId, Integer current) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(eventId, emitter);
+        subscribers.compute(eventId, (id, set) -> {
+            Set<Subscriber> updated = set == null ? ConcurrentHashMap.newKeySet() : set;
+            updated.add(subscriber);
+            return updated;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        if (current != null) {
+            subscriber.offer(current);
+        }
+        return emitter;
+    }
+
+    @Override
+    public void start() {
+        pusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "availability-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+        pusher.scheduleWithFixedDelay(this::push, pushIntervalMillis, pushIntervalMillis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (pusher != null) {
+            pusher.shutdownNow();
+        }
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+        writers.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Handles an {@code eventId:remaining} message. Only the latest count of
+     * an event with local subscribers is kept until the next push.
+     */
+    private void onUpdate(String message) {
+        try {
+            int separator = message.lastIndexOf(':');
+            UUID eventId = UUID.fromString(message.substring(0, separator));
+            if (subscribers.containsKey(eventId)) {
+                pending.put(eventId, Long.parseLong(message.substring(separator + 1)));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed availability update: '{}'", message);
+        }
+    }
+
+    /**
+     * Hands the latest counts to the subscribers' writers without waiting
+     * for any of them.
+     */
+    private void push() {
+        long now = System.nanoTime();
+        for (UUID eventId : pending.keySet()) {
+            Long remaining = pending.remove(eventId);
+            Set<Subscriber> set = subscribers.get(eventId);
+            if (remaining == null || set == null) {
+                continue;
+            }
+            for (Subscriber subscriber : set) {
+                if (subscriber.stalled(now)) {
+                    log.debug("Dropping stalled availability subscriber: eventId={}", eventId);
+                    unsubscribe(subscriber);
+                    // complete() waits for the stuck write, so not on this thread.
+                    writers.execute(subscriber.emitter::complete);
+                } else {
+                    subscriber.offer(remaining);
+                }
+            }
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.eventId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private final class Subscriber {
+        private final UUID eventId;
+        private final SseEmitter emitter;
+        private final AtomicLong latest = new AtomicLong(NOTHING_TO_SEND);
+        private final AtomicBoolean writing = new AtomicBoolean();
+        private volatile long writeStartedAt;
+
+        private Subscriber(UUID eventId, SseEmitter emitter) {
+            this.eventId = eventId;
+            this.emitter = emitter;
+        }
+
+        /**
+         * Replaces the count waiting to be sent and starts a writer unless
+         * one is already running.
+         */
+        void offer(long remaining) {
+            latest.set(remaining);
+            if (writing.compareAndSet(false, true)) {
+                try {
+                    writers.execute(this::drain);
+                } catch (RuntimeException e) {
+                    writing.set(false);
+                }
+            }
+        }
+
+        boolean stalled(long now) {
+            long startedAt = writeStartedAt;
+            return startedAt != 0 && now - startedAt > sendTimeoutNanos;
+        }
+
+        private void drain() {
+            do {
+                try {
+                    long remaining;
+                    while ((remaining = latest.getAndSet(NOTHING_TO_SEND)) != NOTHING_TO_SEND) {
+                        if (!write(remaining)) {
+                            return;
+                        }
+                    }
+                } finally {
+                    writing.set(false);
+                }
+                // A count offered after the loop but before the flag was
+                // cleared found a writer running; pick it up here.
+            } while (latest.get() != NOTHING_TO_SEND && writing.compareAndSet(false, true));
+        }
+
+        private boolean write(long remaining) {
+            writeStartedAt = System.nanoTime();
+            try {
+                emitter.send(SseEmitter.event().name("availability").data(remaining));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping availability subscriber: eventId={}", eventId);
+                unsubscribe(this);
+                return false;
+            } finally {
+                writeStartedAt = 0;
+            }
+        }
+    }
+}
@@ -6,10 +6,11 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import java.util.UUID;
 
+import com.seathold.api.common.id.UuidV7Id;
+
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Min;
@@ -27,7 +28,7 @@ import lombok.NoArgsConstructor;
 @Table(name = "events")
 public class Event {
     @Id
-    @GeneratedValue
+    @UuidV7Id
     @Column(columnDefinition = "uuid")
     private UUID id;
 
@@ -58,6 +59,14 @@ public class Event {
     @Column(name = "total_capacity", nullable = false)
     private int totalCapacity;
 
+    /**
+     * Seats a single buyer may hold or own for this event; {@code null} means
+     * no cap.
+     */
+    @Min(1)
+    @Column(name = "max_per_user")
+    private Integer maxPerUser;
+
     @Column(name = "created_by", nullable = false)
     private UUID createdBy;
 
@@ -0,0 +1,111 @@
+package com.seathold.api.domain.event;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.seathold.api.common.constants.RedisKeys;
+import com.seathold.api.common.exception.NotFoundException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded near-cache of {@link EventSnapshot}s so hot paths don't read the
+ * events table. Changes made on any node are broadcast over Redis pub/sub
+ * and evicted everywhere once their transaction commits.
+ */
+@Component
+@Slf4j
+public class EventCache {
+    private final EventRepository eventRepository;
+    private final StringRedisTemplate redis;
+    private final Cache<UUID, EventSnapshot> snapshots;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public EventCache(
+            EventRepository eventRepository,
+            StringRedisTemplate redis,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${app.event-cache.max-size:10000}") long maxSize,
+            @Value("${app.event-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.eventRepository = eventRepository;
+        this.redis = redis;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "event.snapshots");
+        listenerContainer.addMessageListener(
+                (message, pattern) -> evictLocal(UUID.fromString(new String(message.getBody()))),
+                new ChannelTopic(RedisKeys.eventInvalidationChannel()));
+    }
+
+    /**
+     * Misses are loaded outside the cache: a loader passed to
+     * {@code Cache.get} runs inside {@code ConcurrentHashMap.compute}, whose
+     * monitor would pin a virtual thread's carrier for the whole query.
+     * Concurrent misses for one event may each query it once, and a load
+     * that raced an eviction is dropped again so it can't outlive it.
+     */
+    public EventSnapshot get(UUID eventId) {
+        EventSnapshot snapshot = snapshots.getIfPresent(eventId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        long seen = evictions.get();
+        snapshot = eventRepository.findById(eventId)
+                .map(EventSnapshot::from)
+                .orElseThrow(() -> new NotFoundException("Event not found"));
+        snapshots.put(eventId, snapshot);
+        if (evictions.get() != seen) {
+            snapshots.invalidate(eventId);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Evicts the event on every node, after the current transaction commits
+     * if there is one.
+     */
+    public void invalidate(UUID eventId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    broadcast(eventId);
+                }
+            });
+        } else {
+            broadcast(eventId);
+        }
+    }
+
+    private void broadcast(UUID eventId) {
+        evictLocal(eventId);
+        try {
+            redis.convertAndSend(RedisKeys.eventInvalidationChannel(), eventId.toString());
+        } catch (Exception e) {
+            log.error("Failed to broadcast event invalidation: eventId={}", eventId, e);
+        }
+    }
+
+    private void evictLocal(UUID eventId) {
+        log.debug("Evicting event snapshot: eventId={}", eventId);
+        evictions.incrementAndGet();
+        snapshots.invalidate(eventId);
+    }
+}
@@ -0,0 +1,7 @@
+package com.seathold.api.domain.event;
+
+import java.util.UUID;
+
+public record EventCapacity(UUID id, int totalCapacity, Integer maxPerUser) {
+
+}
@@ -1,12 +1,11 @@
 package com.seathold.api.domain.event;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -15,13 +14,15 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.seathold.api.common.exception.BadRequestException;
 import com.seathold.api.common.exception.NotFoundException;
 import com.seathold.api.common.response.ApiResponse;
 import com.seathold.api.common.response.ApiResponseFactory;
+import com.seathold.api.common.response.CursorPage;
 import com.seathold.api.domain.event.dto.EventDetailResponse;
-import com.seathold.api.domain.event.dto.EventResponse;
+import com.seathold.api.domain.event.dto.EventSummaryResponse;
 import com.seathold.api.domain.reservation.Reservation;
 import com.seathold.api.domain.reservation.ReservationService;
 import com.seathold.api.domain.reservation.dto.HoldRequest;
@@ -39,19 +40,24 @@ public class EventController {
     private final EventService eventService;
     private final ReservationService reservationService;
     private final RoleValidator roleValidator;
+    private final AvailabilityStreams availabilityStreams;
 
-    public EventController(EventService eventService, ReservationService reservationService, RoleValidator roleValidator) {
+    public EventController(EventService eventService, ReservationService reservationService, RoleValidator roleValidator,
+            AvailabilityStreams availabilityStreams) {
         this.eventService = eventService;
         this.reservationService = reservationService;
         this.roleValidator = roleValidator;
+        this.availabilityStreams = availabilityStreams;
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<EventResponse>>> list(
+    public ResponseEntity<ApiResponse<CursorPage<EventSummaryResponse>>> list(
             @RequestParam(required = false) String city,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
-            @PageableDefault(size = 20) Pageable pageable) {
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeAvailability) {
 
         if ((from == null) != (to == null)) {
             throw new BadRequestException("from and to must be provided together");
@@ -59,18 +65,24 @@ public class EventController {
         if (from != null && to != null && from.isAfter(to)) {
             throw new BadRequestException("from must be before to");
         }
+        if (size < 1 || size > CursorPage.MAX_SIZE) {
+            throw new BadRequestException("size must be between 1 and " + CursorPage.MAX_SIZE);
+        }
 
-        Page<Event> eventPage = eventService.findEvents(EventStatus.PUBLISHED, city, from, to, pageable);
-        Page<EventResponse> response = eventPage.map(this::toResponse);
+        CursorPage<EventSummary> eventPage = eventService.findEventPage(EventStatus.PUBLISHED, city, from, to, cursor, size);
+        Map<UUID, Integer> availableSeats = includeAvailability
+                ? eventService.getAvailableSeats(eventPage.content())
+                : Map.of();
+        CursorPage<EventSummaryResponse> response = eventPage.map(e -> toResponse(e, availableSeats.get(e.id())));
 
-        log.info("GET /api/events - count: {}", response.getNumberOfElements());
+        log.info("GET /api/events - count: {}", response.content().size());
         return ApiResponseFactory.successResponse(response);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<EventDetailResponse>> get(@PathVariable UUID id) {
-        Event event = eventService.findById(id);
-        if (event.getStatus() != EventStatus.PUBLISHED) {
+        EventSnapshot event = eventService.findSnapshot(id);
+        if (event.status() != EventStatus.PUBLISHED) {
             throw new NotFoundException("Event not found");
         }
 
@@ -78,13 +90,21 @@ public class EventController {
         return ApiResponseFactory.successResponse(toDetailResponse(event, availableSeats));
     }
 
+    @GetMapping(path = "/{id}/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAvailability(@PathVariable UUID id) {
+        EventSnapshot event = eventService.findSnapshot(id);
+        if (event.status() != EventStatus.PUBLISHED) {
+            throw new NotFoundException("Event not found");
+        }
+
+        return availabilityStreams.subscribe(id, eventService.getAvailableSeats(id));
+    }
+
     @PostMapping("/{eventId}/holds")
     public ResponseEntity<ApiResponse<HoldResponse>> hold(
             @PathVariable UUID eventId,
-            @Valid @RequestBody HoldRequest request,
-            jakarta.servlet.http.HttpServletRequest httpRequest) {
-        roleValidator.requireUser(httpRequest);
-        UserInfo userInfo = roleValidator.extractUserInfo(httpRequest);
+            @Valid @RequestBody HoldRequest request) {
+        UserInfo userInfo = roleValidator.requireUser();
 
         Reservation reservation = reservationService.createHold(eventId, userInfo.userId(), request.quantity());
         HoldResponse response = new HoldResponse(
@@ -94,30 +114,32 @@ public class EventController {
         return ApiResponseFactory.successResponse(response);
     }
 
-    private EventResponse toResponse(Event e) {
-        return new EventResponse(
-                e.getId(),
-                e.getStatus().name(),
-                e.getTitle(),
-                e.getDescription(),
-                e.getVenue(),
-                e.getCity(),
-                e.getStartsAt(),
-                e.getEndsAt(),
-                e.getTotalCapacity());
+    private EventSummaryResponse toResponse(EventSummary e, Integer availableSeats) {
+        return new EventSummaryResponse(
+                e.id(),
+                e.status().name(),
+                e.title(),
+                e.venue(),
+                e.city(),
+                e.startsAt(),
+                e.endsAt(),
+                e.totalCapacity(),
+                e.maxPerUser(),
+                availableSeats);
     }
 
-    private EventDetailResponse toDetailResponse(Event e, Integer availableSeats) {
+    private EventDetailResponse toDetailResponse(EventSnapshot e, Integer availableSeats) {
         return new EventDetailResponse(
-                e.getId(),
-                e.getStatus().name(),
-                e.getTitle(),
-                e.getDescription(),
-                e.getVenue(),
-                e.getCity(),
-                e.getStartsAt(),
-                e.getEndsAt(),
-                e.getTotalCapacity(),
+                e.id(),
+                e.status().name(),
+                e.title(),
+                e.description(),
+                e.venue(),
+                e.city(),
+                e.startsAt(),
+                e.endsAt(),
+                e.totalCapacity(),
+                e.maxPerUser(),
                 availableSeats);
     }
 }
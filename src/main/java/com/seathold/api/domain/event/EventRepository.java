@@ -1,27 +1,138 @@
 package com.seathold.api.domain.event;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+/**
+ * City filters compare {@code lower(city)} so they can use the functional
+ * index created by the V2 migration; derived {@code IgnoreCase} queries
+ * would compare {@code upper(city)} instead.
+ *
+ * <p>The {@code Keyset} queries return the events that sort after
+ * {@code (afterStartsAt, afterId)} in {@code (startsAt, id)} order, so a page
+ * is one index range scan with no OFFSET and no COUNT.
+ */
 public interface EventRepository extends JpaRepository<Event, UUID> {
-    Page<Event> findByStatus(EventStatus status, Pageable pageable);
+    @Query("""
+            select new com.seathold.api.domain.event.EventCapacity(e.id, e.totalCapacity, e.maxPerUser)
+              from Event e
+             where e.id = :id
+               and e.status = :status
+            """)
+    Optional<EventCapacity> findCapacityByIdAndStatus(UUID id, EventStatus status);
 
-    Page<Event> findByStatusAndCityIgnoreCase(EventStatus status, String city, Pageable pageable);
+    @Query("""
+            select new com.seathold.api.domain.event.EventCapacity(e.id, e.totalCapacity, e.maxPerUser)
+              from Event e
+             where e.id in :ids
+               and e.status = :status
+            """)
+    List<EventCapacity> findCapacitiesByIdInAndStatus(Collection<UUID> ids, EventStatus status);
 
-    Page<Event> findByStatusAndStartsAtBetween(
+    @Query("""
+            select new com.seathold.api.domain.event.EventCapacity(e.id, e.totalCapacity, e.maxPerUser)
+              from Event e
+             where e.status = :status
+               and e.id > :afterId
+             order by e.id
+            """)
+    List<EventCapacity> findCapacitiesByStatus(EventStatus status, UUID afterId, Limit limit);
+
+    @Query("""
+            select new com.seathold.api.domain.event.EventSummary(
+                   e.id, e.status, e.title, e.venue, e.city, e.startsAt, e.endsAt, e.totalCapacity, e.maxPerUser)
+              from Event e
+             order by e.startsAt, e.id
+            """)
+    List<EventSummary> findAllSummaries();
+
+    @Query(value = """
+            select new com.seathold.api.domain.event.EventSummary(
+                   e.id, e.status, e.title, e.venue, e.city, e.startsAt, e.endsAt, e.totalCapacity, e.maxPerUser)
+              from Event e
+             where e.status = :status
+            """, countQuery = "select count(e) from Event e where e.status = :status")
+    Page<EventSummary> findSummariesByStatus(EventStatus status, Pageable pageable);
+
+    @Query(value = """
+            select new com.seathold.api.domain.event.EventSummary(
+                   e.id, e.status, e.title, e.venue, e.city, e.startsAt, e.endsAt, e.totalCapacity, e.maxPerUser)
+              from Event e
+             where e.status = :status
+               and lower(e.city) = lower(:city)
+            """, countQuery = "select count(e) from Event e where e.status = :status and lower(e.city) = lower(:city)")
+    Page<EventSummary> findSummariesByStatusAndCity(EventStatus status, String city, Pageable pageable);
+
+    @Query("""
+            select new com.seathold.api.domain.event.EventSummary(
+                   e.id, e.status, e.title, e.venue, e.city, e.startsAt, e.endsAt, e.totalCapacity, e.maxPerUser)
+              from Event e
+             where e.status = :status
+               and (e.startsAt, e.id) > (:afterStartsAt, :afterId)
+             order by e.startsAt, e.id
+            """)
+    List<EventSummary> findKeysetByStatus(
+            EventStatus status,
+            LocalDateTime afterStartsAt,
+            UUID afterId,
+            Limit limit);
+
+    @Query("""
+            select new com.seathold.api.domain.event.EventSummary(
+                   e.id, e.status, e.title, e.venue, e.city, e.startsAt, e.endsAt, e.totalCapacity, e.maxPerUser)
+              from Event e
+             where e.status = :status
+               and lower(e.city) = lower(:city)
+               and (e.startsAt, e.id) > (:afterStartsAt, :afterId)
+             order by e.startsAt, e.id
+            """)
+    List<EventSummary> findKeysetByStatusAndCity(
+            EventStatus status,
+            String city,
+            LocalDateTime afterStartsAt,
+            UUID afterId,
+            Limit limit);
+
+    @Query("""
+            select new com.seathold.api.domain.event.EventSummary(
+                   e.id, e.status, e.title, e.venue, e.city, e.startsAt, e.endsAt, e.totalCapacity, e.maxPerUser)
+              from Event e
+             where e.status = :status
+               and e.startsAt <= :to
+               and (e.startsAt, e.id) > (:afterStartsAt, :afterId)
+             order by e.startsAt, e.id
+            """)
+    List<EventSummary> findKeysetByStatusAndStartsAtBefore(
             EventStatus status,
-            LocalDateTime from,
             LocalDateTime to,
-            Pageable pageable);
+            LocalDateTime afterStartsAt,
+            UUID afterId,
+            Limit limit);
 
-    Page<Event> findByStatusAndCityIgnoreCaseAndStartsAtBetween(
+    @Query("""
+            select new com.seathold.api.domain.event.EventSummary(
+                   e.id, e.status, e.title, e.venue, e.city, e.startsAt, e.endsAt, e.totalCapacity, e.maxPerUser)
+              from Event e
+             where e.status = :status
+               and lower(e.city) = lower(:city)
+               and e.startsAt <= :to
+               and (e.startsAt, e.id) > (:afterStartsAt, :afterId)
+             order by e.startsAt, e.id
+            """)
+    List<EventSummary> findKeysetByStatusAndCityAndStartsAtBefore(
             EventStatus status,
             String city,
-            LocalDateTime from,
             LocalDateTime to,
-            Pageable pageable);
+            LocalDateTime afterStartsAt,
+            UUID afterId,
+            Limit limit);
 }
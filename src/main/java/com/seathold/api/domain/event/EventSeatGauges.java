@@ -0,0 +1,66 @@
+package com.seathold.api.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.seathold.api.inventory.AvailabilityStore;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publishes {@code events.seats.available}, tagged by event, for the
+ * published events starting soonest. Only {@code max-events} events are
+ * tagged at a time, so the number of series stays bounded no matter how
+ * many events are on sale; events that drop out of the window lose their
+ * gauge on the next refresh.
+ */
+@Component
+@Slf4j
+public class EventSeatGauges {
+    private final EventRepository eventRepository;
+    private final AvailabilityStore availabilityStore;
+    private final MultiGauge gauges;
+    private final int maxEvents;
+
+    public EventSeatGauges(
+            EventRepository eventRepository,
+            AvailabilityStore availabilityStore,
+            MeterRegistry meterRegistry,
+            @Value("${app.metrics.event-gauges.max-events:20}") int maxEvents) {
+        this.eventRepository = eventRepository;
+        this.availabilityStore = availabilityStore;
+        this.maxEvents = maxEvents;
+        this.gauges = MultiGauge.builder("events.seats.available")
+                .description("Seats left in the availability store")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.metrics.event-gauges.interval-ms:10000}")
+    public void refresh() {
+        if (maxEvents <= 0) {
+            return;
+        }
+        try {
+            List<EventSummary> events = eventRepository.findKeysetByStatus(
+                    EventStatus.PUBLISHED, LocalDateTime.now(), new UUID(0L, 0L), Limit.of(maxEvents));
+            Map<UUID, Integer> available = availabilityStore.getAvailable(events.stream().map(EventSummary::id).toList());
+
+            List<MultiGauge.Row<?>> rows = new ArrayList<>(available.size());
+            available.forEach((eventId, seats) -> rows.add(MultiGauge.Row.of(Tags.of("event", eventId.toString()), seats)));
+            gauges.register(rows, true);
+        } catch (Exception e) {
+            log.warn("Failed to refresh seat gauges", e);
+        }
+    }
+}
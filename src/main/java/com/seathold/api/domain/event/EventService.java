@@ -1,39 +1,60 @@
 package com.seathold.api.domain.event;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import com.seathold.api.redis.AvailabilityService;
+import com.seathold.api.inventory.AvailabilityStore;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 import com.seathold.api.common.exception.BadRequestException;
 import com.seathold.api.common.exception.ConflictException;
 import com.seathold.api.common.exception.NotFoundException;
+import com.seathold.api.common.pagination.KeysetCursor;
+import com.seathold.api.common.response.CursorPage;
 
 @Service
 @Slf4j
 public class EventService {
     private final EventRepository eventRepository;
-    private final AvailabilityService availabilityService;
-
-    public EventService(EventRepository eventRepository, AvailabilityService availabilityService) {
+    private final AvailabilityStore availabilityStore;
+    private final EventCache eventCache;
+    private final TaskExecutor taskExecutor;
+    private final Counter availabilityFallbacks;
+
+    public EventService(EventRepository eventRepository, AvailabilityStore availabilityStore,
+            EventCache eventCache,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) TaskExecutor taskExecutor,
+            MeterRegistry meterRegistry) {
         this.eventRepository = eventRepository;
-        this.availabilityService = availabilityService;
+        this.availabilityStore = availabilityStore;
+        this.eventCache = eventCache;
+        this.taskExecutor = taskExecutor;
+        this.availabilityFallbacks = meterRegistry.counter("events.availability.fallbacks");
     }
 
     @Transactional(readOnly = true)
-    public List<Event> findAll() {
+    public List<EventSummary> findAll() {
         log.debug("Finding all events");
-        List<Event> events = eventRepository.findAll();
+        List<EventSummary> events = eventRepository.findAllSummaries();
         log.info("Found {} events", events.size());
         return events;
     }
@@ -44,6 +65,10 @@ public class EventService {
         return getByIdOrThrow(eventId);
     }
 
+    public EventSnapshot findSnapshot(UUID eventId) {
+        return eventCache.get(eventId);
+    }
+
     @Transactional
     public Event createDraft(Event event) {
         log.info("Creating draft event: title='{}', venue = '{}', capacity ={}", event.getTitle(), event.getVenue(),
@@ -81,6 +106,7 @@ public class EventService {
             EventStatus oldStatus = event.getStatus();
             event.setStatus(EventStatus.PUBLISHED);
             Event saved = eventRepository.save(event);
+            eventCache.invalidate(eventId);
 
             log.info("Event status changed: eventId={}, from={}, to={}", eventId, oldStatus, EventStatus.PUBLISHED);
 
@@ -106,6 +132,7 @@ public class EventService {
             EventStatus oldStatus = event.getStatus();
             event.setStatus(EventStatus.CANCELED);
             Event saved = eventRepository.save(event);
+            eventCache.invalidate(eventId);
             log.info("Event canceled successfully: eventId={}, previousStatus={}",
                     eventId, oldStatus);
             return saved;
@@ -131,6 +158,7 @@ public class EventService {
             }
             validatedUpdateEvent(event);
             Event saved = eventRepository.save(event);
+            eventCache.invalidate(eventId);
             log.info("Event updated successfully: eventId={}", eventId);
             return saved;
         } catch (BadRequestException | ConflictException e) {
@@ -148,6 +176,7 @@ public class EventService {
         try {
             Event event = getByIdOrThrow(eventId);
             eventRepository.deleteById(eventId);
+            eventCache.invalidate(eventId);
             log.info("Event deleted successfully: eventId={}", eventId);
         } catch (ConflictException e) {
             log.error("Cannot delete event: eventId={}", eventId);
@@ -164,17 +193,39 @@ public class EventService {
                 .orElseThrow(() -> new NotFoundException("Event not found"));
     }
 
-    @Transactional(readOnly = true)
     public Integer getAvailableSeats(UUID eventId) {
         log.debug("Getting available seats: eventId={}", eventId);
         try {
-            Integer available = availabilityService.getAvailable(eventId);
+            Integer available = availabilityStore.getAvailable(eventId);
             log.debug("Retrieved from redis: eventId={}, available={}", eventId, available);
             return available;
         } catch (Exception e) {
-            log.error("Redis unavailable, eventId={}", eventId, e);
-            Event event = getByIdOrThrow(eventId);
-            return event.getStatus() == EventStatus.PUBLISHED ? event.getTotalCapacity() : null;
+            log.error("Availability store unavailable, eventId={}", eventId, e);
+            availabilityFallbacks.increment();
+            EventSnapshot event = findSnapshot(eventId);
+            return event.status() == EventStatus.PUBLISHED ? event.totalCapacity() : null;
+        }
+    }
+
+    /**
+     * Batch form of {@link #getAvailableSeats(UUID)} for a listing page: one
+     * store round trip for all events, falling back to each event's capacity
+     * when the store is down.
+     */
+    public Map<UUID, Integer> getAvailableSeats(List<EventSummary> events) {
+        List<UUID> ids = events.stream().map(EventSummary::id).toList();
+        try {
+            return availabilityStore.getAvailable(ids);
+        } catch (Exception e) {
+            log.error("Availability store unavailable, events={}", ids.size(), e);
+            availabilityFallbacks.increment();
+            Map<UUID, Integer> fallback = new HashMap<>(ids.size() * 2);
+            for (EventSummary event : events) {
+                if (event.status() == EventStatus.PUBLISHED) {
+                    fallback.put(event.id(), event.totalCapacity());
+                }
+            }
+            return fallback;
         }
     }
 
@@ -194,11 +245,32 @@ public class EventService {
         }
     }
 
+    /**
+     * Runs on the application task executor, which uses virtual threads when
+     * {@code spring.threads.virtual.enabled} is set, instead of the common
+     * ForkJoinPool where a blocking store call would hold a carrier thread.
+     * Inside a transaction it only starts once that commits, so the
+     * Postgres store sees the published row and a rolled-back publish seeds
+     * nothing.
+     */
     public void initializeAvailabilityAsync(UUID eventId, int totalCapacity) {
-        CompletableFuture.runAsync(() -> {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    initializeAvailability(eventId, totalCapacity);
+                }
+            });
+        } else {
+            initializeAvailability(eventId, totalCapacity);
+        }
+    }
+
+    private void initializeAvailability(UUID eventId, int totalCapacity) {
+        taskExecutor.execute(() -> {
             try {
                 log.debug("Initializing redis availability : eventId {}", eventId);
-                availabilityService.init(eventId, totalCapacity);
+                availabilityStore.init(eventId, totalCapacity);
                 log.debug("Redis availability initialized successfully: eventId={}", eventId);
             } catch (Exception e) {
                 log.error("Failed to initialize Redis availability:", e);
@@ -253,6 +325,14 @@ public class EventService {
             hasChanges = true;
         }
 
+        if (patch.getMaxPerUser() != null) {
+            Integer maxPerUser = patch.getMaxPerUser() == 0 ? null : patch.getMaxPerUser();
+            if (!Objects.equals(maxPerUser, event.getMaxPerUser())) {
+                event.setMaxPerUser(maxPerUser);
+                hasChanges = true;
+            }
+        }
+
         return hasChanges;
     }
 
@@ -269,21 +349,42 @@ public class EventService {
     }
 
     @Transactional(readOnly = true)
-    public Page<Event> findEvents(EventStatus status, String city,
-            LocalDateTime from, LocalDateTime to,
-            Pageable pageable) {
-        log.info("Searching events: status={}, city='{}', from={}, to={}",
-                status, city, from, to);
+    public Page<EventSummary> findEvents(EventStatus status, String city, Pageable pageable) {
+        log.info("Searching events: status={}, city='{}'", status, city);
+
+        if (city != null) {
+            return eventRepository.findSummariesByStatusAndCity(status, city, pageable);
+        }
+        return eventRepository.findSummariesByStatus(status, pageable);
+    }
 
-        if (city != null && from != null && to != null) {
-            return eventRepository.findByStatusAndCityIgnoreCaseAndStartsAtBetween(
-                    status, city, from, to, pageable);
+    /**
+     * Keyset-paginated listing in {@code (startsAt, id)} order. A {@code from}
+     * bound becomes the starting cursor of the first page.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<EventSummary> findEventPage(EventStatus status, String city,
+            LocalDateTime from, LocalDateTime to,
+            String cursor, int size) {
+        log.info("Searching events: status={}, city='{}', from={}, to={}, cursor={}",
+                status, city, from, to, cursor);
+
+        KeysetCursor after = cursor != null
+                ? KeysetCursor.decode(cursor)
+                : from != null ? new KeysetCursor(from, KeysetCursor.first().id()) : KeysetCursor.first();
+        Limit limit = Limit.of(size + 1);
+
+        List<EventSummary> rows;
+        if (city != null && to != null) {
+            rows = eventRepository.findKeysetByStatusAndCityAndStartsAtBefore(
+                    status, city, to, after.at(), after.id(), limit);
         } else if (city != null) {
-            return eventRepository.findByStatusAndCityIgnoreCase(status, city, pageable);
-        } else if (from != null && to != null) {
-            return eventRepository.findByStatusAndStartsAtBetween(status, from, to, pageable);
+            rows = eventRepository.findKeysetByStatusAndCity(status, city, after.at(), after.id(), limit);
+        } else if (to != null) {
+            rows = eventRepository.findKeysetByStatusAndStartsAtBefore(status, to, after.at(), after.id(), limit);
         } else {
-            return eventRepository.findByStatus(status, pageable);
+            rows = eventRepository.findKeysetByStatus(status, after.at(), after.id(), limit);
         }
+        return CursorPage.of(rows, size, e -> new KeysetCursor(e.startsAt(), e.id()).encode());
     }
 }
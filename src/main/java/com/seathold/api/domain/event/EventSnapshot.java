@@ -0,0 +1,35 @@
+package com.seathold.api.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Immutable copy of an event's public fields, safe to share across threads
+ * from {@link EventCache}.
+ */
+public record EventSnapshot(
+        UUID id,
+        EventStatus status,
+        String title,
+        String description,
+        String venue,
+        String city,
+        LocalDateTime startsAt,
+        LocalDateTime endsAt,
+        int totalCapacity,
+        Integer maxPerUser) {
+
+    public static EventSnapshot from(Event e) {
+        return new EventSnapshot(
+                e.getId(),
+                e.getStatus(),
+                e.getTitle(),
+                e.getDescription(),
+                e.getVenue(),
+                e.getCity(),
+                e.getStartsAt(),
+                e.getEndsAt(),
+                e.getTotalCapacity(),
+                e.getMaxPerUser());
+    }
+}
@@ -0,0 +1,22 @@
+package com.seathold.api.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Listing row of an event. Built by JPQL constructor expressions, so list
+ * queries skip the {@code description} column and never hydrate or
+ * snapshot managed {@link Event} entities.
+ */
+public record EventSummary(
+        UUID id,
+        EventStatus status,
+        String title,
+        String venue,
+        String city,
+        LocalDateTime startsAt,
+        LocalDateTime endsAt,
+        int totalCapacity,
+        Integer maxPerUser) {
+
+}
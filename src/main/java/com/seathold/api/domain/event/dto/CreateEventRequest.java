@@ -13,5 +13,6 @@ public record CreateEventRequest(
                 @NotBlank String city,
                 @NotNull LocalDateTime startsAt,
                 LocalDateTime endsAt,
-                @Min(1) int totalCapacity) {
+                @Min(1) int totalCapacity,
+                @Min(1) Integer maxPerUser) {
 }
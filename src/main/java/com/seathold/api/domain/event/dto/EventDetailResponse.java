@@ -13,5 +13,6 @@ public record EventDetailResponse(
         LocalDateTime startsAt,
         LocalDateTime endsAt,
         int totalCapacity,
+        Integer maxPerUser,
         Integer availableSeats) {
 }
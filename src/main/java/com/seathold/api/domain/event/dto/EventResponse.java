@@ -12,6 +12,7 @@ public record EventResponse(
         String city,
         LocalDateTime startsAt,
         LocalDateTime endsAt,
-        int totalCapacity) {
+        int totalCapacity,
+        Integer maxPerUser) {
 
 }
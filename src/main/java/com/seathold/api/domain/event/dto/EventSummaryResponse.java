@@ -0,0 +1,18 @@
+package com.seathold.api.domain.event.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record EventSummaryResponse(
+        UUID id,
+        String status,
+        String title,
+        String venue,
+        String city,
+        LocalDateTime startsAt,
+        LocalDateTime endsAt,
+        int totalCapacity,
+        Integer maxPerUser,
+        Integer availableSeats) {
+
+}
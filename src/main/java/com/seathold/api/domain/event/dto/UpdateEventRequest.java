@@ -11,5 +11,6 @@ public record UpdateEventRequest(
                 String city,
                 LocalDateTime startsAt,
                 LocalDateTime endsAt,
-                @Min(0) Integer totalCapacity) {
+                @Min(0) Integer totalCapacity,
+                @Min(0) Integer maxPerUser) {
 }
@@ -0,0 +1,11 @@
+package com.seathold.api.domain.reservation;
+
+import java.util.UUID;
+
+/**
+ * Seats taken in an event by confirmed reservations and HOLD rows, and how
+ * many of those holds are past their deadline but not yet reaped.
+ */
+public record EventSeatTotals(UUID eventId, long seats, long overdueHolds) {
+
+}
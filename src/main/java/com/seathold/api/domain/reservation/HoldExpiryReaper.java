@@ -0,0 +1,78 @@
+package com.seathold.api.domain.reservation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.seathold.api.inventory.AvailabilityStore;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Returns the seats of expired holds to inventory and marks their
+ * reservations as {@link ReservationStatus#EXPIRED}.
+ */
+@Component
+@Slf4j
+public class HoldExpiryReaper {
+    private final ReservationRepository reservationRepository;
+    private final AvailabilityStore availabilityStore;
+    private final int batchSize;
+    private final int graceSeconds;
+    private final Counter reapedHolds;
+    private final Counter staleHolds;
+
+    public HoldExpiryReaper(
+            ReservationRepository reservationRepository,
+            AvailabilityStore availabilityStore,
+            MeterRegistry meterRegistry,
+            @Value("${app.hold.reaper.batch-size:500}") int batchSize,
+            @Value("${app.hold.reaper.grace-seconds:60}") int graceSeconds) {
+        this.reservationRepository = reservationRepository;
+        this.availabilityStore = availabilityStore;
+        this.batchSize = batchSize;
+        this.graceSeconds = graceSeconds;
+        this.reapedHolds = meterRegistry.counter("reservations.transitions", "status", "expired", "source", "reaper");
+        this.staleHolds = meterRegistry.counter("reservations.transitions", "status", "expired", "source", "stale");
+    }
+
+    @Scheduled(fixedDelayString = "${app.hold.reaper.interval-ms:1000}")
+    public void reap() {
+        for (UUID eventId : availabilityStore.eventsWithHolds()) {
+            try {
+                reapEvent(eventId);
+            } catch (Exception e) {
+                log.error("Failed to reap expired holds: eventId={}", eventId, e);
+            }
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int stale = reservationRepository.expireStaleHolds(now.minusSeconds(graceSeconds), now);
+            if (stale > 0) {
+                staleHolds.increment(stale);
+                log.info("Expired stale holds: count={}", stale);
+            }
+        } catch (Exception e) {
+            log.error("Failed to expire stale holds", e);
+        }
+    }
+
+    private void reapEvent(UUID eventId) {
+        List<UUID> reaped;
+        do {
+            reaped = availabilityStore.reapExpired(eventId, batchSize);
+            if (!reaped.isEmpty()) {
+                int updated = reservationRepository.expireHolds(reaped, LocalDateTime.now());
+                reapedHolds.increment(updated);
+                log.info("Reaped expired holds: eventId={}, holds={}, updated={}", eventId, reaped.size(), updated);
+            }
+        } while (reaped.size() == batchSize);
+    }
+}
@@ -0,0 +1,317 @@
+package com.seathold.api.domain.reservation;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.seathold.api.inventory.AvailabilityStore;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Optional write-behind buffer for HOLD reservations whose seats are already
+ * taken in Redis. Holds are queued and inserted with multi-row JDBC batches
+ * when the batch fills up or the flush interval passes. Queued holds stay
+ * readable through {@link #ensurePersisted} until they are written.
+ */
+@Component
+@Slf4j
+public class HoldWriteBehind implements SmartLifecycle {
+    private static final String INSERT_SQL = """
+            insert into reservations (id, event_id, user_id, quantity, status, expires_at, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final long PERSIST_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AvailabilityStore availabilityStore;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final int maxRetries;
+
+    private final BlockingQueue<Reservation> queue;
+    private final ConcurrentHashMap<UUID, Reservation> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Condition batchWritten = flushLock.newCondition();
+    private volatile boolean running;
+    private Thread flusher;
+
+    public HoldWriteBehind(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            AvailabilityStore availabilityStore,
+            @Value("${app.hold.write-behind.enabled:false}") boolean enabled,
+            @Value("${app.hold.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.hold.write-behind.batch-size:500}") int batchSize,
+            @Value("${app.hold.write-behind.flush-interval-ms:50}") long flushIntervalMillis,
+            @Value("${app.hold.write-behind.max-retries:5}") int maxRetries) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.availabilityStore = availabilityStore;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxRetries = maxRetries;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * Queues a new hold for insertion.
+     *
+     * @return {@code false} if write-behind is off or the queue is full, in
+     *         which case the caller must insert the hold itself
+     */
+    public boolean offer(Reservation reservation) {
+        if (!enabled || !running) {
+            return false;
+        }
+        pending.put(reservation.getId(), reservation);
+        if (!queue.offer(reservation)) {
+            pending.remove(reservation.getId());
+            return false;
+        }
+        // stop() may have drained the queue between the check and the
+        // enqueue. Taking the hold back hands it to the caller; if it is
+        // already gone, the final drain took it and writes it.
+        if (!running && queue.remove(reservation)) {
+            pending.remove(reservation.getId());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Makes sure a queued hold has reached the database. A hold still in the
+     * queue is taken out and inserted on its own, wherever it sits in the
+     * queue; one the flusher already took is waited for.
+     */
+    public void ensurePersisted(UUID reservationId) {
+        Reservation reservation = pending.get(reservationId);
+        if (reservation == null) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            if (queue.remove(reservation)) {
+                insertWithRetry(List.of(reservation));
+            }
+            awaitWritten(List.of(reservationId));
+        } finally {
+            flushLock.unlock();
+        }
+        if (pending.containsKey(reservationId)) {
+            throw new IllegalStateException("Reservation " + reservationId + " could not be persisted yet");
+        }
+    }
+
+    /**
+     * Writes every hold queued so far, including a batch the flusher has
+     * already taken, so that a read of the reservations table sees them.
+     */
+    public void persistQueued() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<UUID> queued = List.copyOf(pending.keySet());
+        while (!queue.isEmpty()) {
+            flush();
+        }
+        flushLock.lock();
+        try {
+            awaitWritten(queued);
+        } finally {
+            flushLock.unlock();
+        }
+        if (queued.stream().anyMatch(pending::containsKey)) {
+            throw new IllegalStateException("Queued holds could not be persisted yet");
+        }
+    }
+
+    /**
+     * Waits, holding {@link #flushLock}, until none of the holds is pending.
+     */
+    private void awaitWritten(List<UUID> reservationIds) {
+        long remaining = PERSIST_TIMEOUT_NANOS;
+        try {
+            for (UUID reservationId : reservationIds) {
+                while (pending.containsKey(reservationId) && remaining > 0) {
+                    remaining = batchWritten.awaitNanos(remaining);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::runFlusher, "hold-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        while (!queue.isEmpty()) {
+            flush();
+        }
+        log.info("Hold write-behind stopped, pending={}", pending.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Below the web server's graceful shutdown phase, so queued holds are
+     * drained only once in-flight requests have stopped offering them.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+
+    /**
+     * Blocks until a hold is queued, then gives the batch up to the flush
+     * interval to fill before writing it.
+     */
+    private void runFlusher() {
+        List<Reservation> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Reservation first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                        break;
+                    }
+                    Reservation next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                write(batch);
+                return;
+            } catch (Exception e) {
+                log.error("Hold write-behind flush failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Drains and inserts up to one batch.
+     */
+    private void flush() {
+        List<Reservation> batch = new ArrayList<>(batchSize);
+        queue.drainTo(batch, batchSize);
+        write(batch);
+    }
+
+    /**
+     * The lock serializes writes with {@link #ensurePersisted}, which waits
+     * on it for holds the flusher has taken off the queue.
+     */
+    private void write(List<Reservation> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            insertWithRetry(batch);
+            batchWritten.signalAll();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void insertWithRetry(List<Reservation> batch) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(batch));
+                batch.forEach(r -> pending.remove(r.getId()));
+                log.debug("Flushed held reservations: count={}", batch.size());
+                return;
+            } catch (Exception e) {
+                if (attempt >= maxRetries) {
+                    log.error("Dropping held reservations after {} attempts, releasing seats: count={}",
+                            attempt, batch.size(), e);
+                    batch.forEach(this::drop);
+                    return;
+                }
+                log.warn("Hold batch insert failed, retrying: attempt={}, count={}", attempt, batch.size(), e);
+                try {
+                    Thread.sleep(Math.min(1000L, 50L << attempt));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private void insert(List<Reservation> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, r) -> {
+            ps.setObject(1, r.getId());
+            ps.setObject(2, r.getEventId());
+            ps.setObject(3, r.getUserId());
+            ps.setInt(4, r.getQuantity());
+            ps.setString(5, r.getStatus().name());
+            ps.setTimestamp(6, Timestamp.valueOf(r.getExpiresAt()));
+            ps.setTimestamp(7, Timestamp.valueOf(r.getCreatedAt()));
+            ps.setTimestamp(8, Timestamp.valueOf(r.getUpdatedAt()));
+        });
+    }
+
+    private void drop(Reservation reservation) {
+        pending.remove(reservation.getId());
+        try {
+            availabilityStore.release(
+                    reservation.getEventId(),
+                    reservation.getId(),
+                    reservation.getUserId(),
+                    reservation.getQuantity());
+        } catch (Exception e) {
+            log.error("Failed to release seats of dropped hold: reservationId={}", reservation.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.seathold.api.domain.reservation;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record LiveHold(UUID id, UUID eventId, UUID userId, int quantity, LocalDateTime expiresAt) {
+
+}
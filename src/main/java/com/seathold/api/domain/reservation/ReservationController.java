@@ -14,8 +14,6 @@ import com.seathold.api.domain.reservation.dto.ReservationStatusResponse;
 import com.seathold.api.security.RoleValidator;
 import com.seathold.api.security.RoleValidator.UserInfo;
 
-import jakarta.servlet.http.HttpServletRequest;
-
 @RestController
 @RequestMapping("/api/reservations")
 public class ReservationController {
@@ -29,10 +27,8 @@ public class ReservationController {
 
     @PostMapping("/{reservationId}/confirm")
     public ResponseEntity<ApiResponse<ReservationStatusResponse>> confirm(
-            @PathVariable UUID reservationId,
-            HttpServletRequest request) {
-        roleValidator.requireUser(request);
-        UserInfo userInfo = roleValidator.extractUserInfo(request);
+            @PathVariable UUID reservationId) {
+        UserInfo userInfo = roleValidator.requireUser();
 
         Reservation reservation = reservationService.confirm(reservationId, userInfo.userId());
         ReservationStatusResponse response = new ReservationStatusResponse(
@@ -43,10 +39,8 @@ public class ReservationController {
 
     @PostMapping("/{reservationId}/cancel")
     public ResponseEntity<ApiResponse<ReservationStatusResponse>> cancel(
-            @PathVariable UUID reservationId,
-            HttpServletRequest request) {
-        roleValidator.requireUser(request);
-        UserInfo userInfo = roleValidator.extractUserInfo(request);
+            @PathVariable UUID reservationId) {
+        UserInfo userInfo = roleValidator.requireUser();
 
         Reservation reservation = reservationService.cancel(reservationId, userInfo.userId());
         ReservationStatusResponse response = new ReservationStatusResponse(
@@ -1,29 +1,116 @@
 package com.seathold.api.domain.reservation;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.time.LocalDateTime;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * The {@code Keyset} queries list a buyer's reservations newest first and
+ * return the rows that sort before {@code (beforeCreatedAt, beforeId)} in
+ * {@code (createdAt, id)} order.
+ */
 public interface ReservationRepository extends JpaRepository<Reservation, UUID> {
     Optional<Reservation> findByIdAndUserId(UUID id, UUID userId);
 
-    Page<Reservation> findByUserId(UUID userId, Pageable pageable);
-
-    Page<Reservation> findByUserIdAndStatus(UUID userId, ReservationStatus status, Pageable pageable);
-
-    Page<Reservation> findByUserIdAndStatusAndExpiresAtBefore(
+    @Query("""
+            select r from Reservation r
+             where r.userId = :userId
+               and (r.createdAt, r.id) < (:beforeCreatedAt, :beforeId)
+             order by r.createdAt desc, r.id desc
+            """)
+    List<Reservation> findKeysetByUserId(
             UUID userId,
-            ReservationStatus status,
-            LocalDateTime time,
-            Pageable pageable);
+            LocalDateTime beforeCreatedAt,
+            UUID beforeId,
+            Limit limit);
 
-    Page<Reservation> findByUserIdAndStatusAndExpiresAtAfter(
+    @Query("""
+            select r from Reservation r
+             where r.userId = :userId
+               and r.status = :status
+               and (r.createdAt, r.id) < (:beforeCreatedAt, :beforeId)
+             order by r.createdAt desc, r.id desc
+            """)
+    List<Reservation> findKeysetByUserIdAndStatus(
             UUID userId,
             ReservationStatus status,
-            LocalDateTime time,
-            Pageable pageable);
+            LocalDateTime beforeCreatedAt,
+            UUID beforeId,
+            Limit limit);
+
+    /**
+     * Seats taken per event and buyer: confirmed reservations plus holds
+     * that have not expired.
+     */
+    @Query("""
+            select new com.seathold.api.domain.reservation.SeatTally(r.eventId, r.userId, sum(r.quantity))
+              from Reservation r
+             where r.eventId in :eventIds
+               and (r.status = com.seathold.api.domain.reservation.ReservationStatus.CONFIRMED
+                    or (r.status = com.seathold.api.domain.reservation.ReservationStatus.HOLD
+                        and r.expiresAt > :now))
+             group by r.eventId, r.userId
+            """)
+    List<SeatTally> tallyTakenSeats(Collection<UUID> eventIds, LocalDateTime now);
+
+    @Query("select distinct r.eventId from Reservation r where r.updatedAt > :since")
+    List<UUID> findEventIdsUpdatedSince(LocalDateTime since);
+
+    /**
+     * Seats taken per event by confirmed reservations and by holds not yet
+     * expired in the database, with the number of those holds already past
+     * their deadline.
+     */
+    @Query("""
+            select new com.seathold.api.domain.reservation.EventSeatTotals(
+                   r.eventId,
+                   sum(r.quantity),
+                   sum(case when r.status = com.seathold.api.domain.reservation.ReservationStatus.HOLD
+                             and r.expiresAt <= :now then 1 else 0 end))
+              from Reservation r
+             where r.eventId in :eventIds
+               and r.status in (com.seathold.api.domain.reservation.ReservationStatus.CONFIRMED,
+                                com.seathold.api.domain.reservation.ReservationStatus.HOLD)
+             group by r.eventId
+            """)
+    List<EventSeatTotals> totalTakenSeats(Collection<UUID> eventIds, LocalDateTime now);
+
+    @Query("""
+            select new com.seathold.api.domain.reservation.LiveHold(r.id, r.eventId, r.userId, r.quantity, r.expiresAt)
+              from Reservation r
+             where r.eventId in :eventIds
+               and r.status = com.seathold.api.domain.reservation.ReservationStatus.HOLD
+               and r.expiresAt > :now
+            """)
+    List<LiveHold> findLiveHolds(Collection<UUID> eventIds, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update Reservation r
+               set r.status = com.seathold.api.domain.reservation.ReservationStatus.EXPIRED,
+                   r.updatedAt = :now
+             where r.id in :ids
+               and r.status = com.seathold.api.domain.reservation.ReservationStatus.HOLD
+            """)
+    int expireHolds(Collection<UUID> ids, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update Reservation r
+               set r.status = com.seathold.api.domain.reservation.ReservationStatus.EXPIRED,
+                   r.updatedAt = :now
+             where r.status = com.seathold.api.domain.reservation.ReservationStatus.HOLD
+               and r.expiresAt < :cutoff
+            """)
+    int expireStaleHolds(LocalDateTime cutoff, LocalDateTime now);
 }
@@ -2,26 +2,38 @@ package com.seathold.api.domain.reservation;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.seathold.api.common.constants.RedisKeys;
 import com.seathold.api.common.exception.BadRequestException;
 import com.seathold.api.common.exception.ConflictException;
 import com.seathold.api.common.exception.NotFoundException;
-import com.seathold.api.domain.event.Event;
+import com.seathold.api.common.id.UuidV7;
+import com.seathold.api.common.pagination.KeysetCursor;
+import com.seathold.api.common.response.CursorPage;
+import com.seathold.api.diagnostics.CancelEvent;
+import com.seathold.api.diagnostics.ConfirmEvent;
+import com.seathold.api.diagnostics.HoldAdmissionEvent;
 import com.seathold.api.domain.event.EventService;
+import com.seathold.api.domain.event.EventSnapshot;
 import com.seathold.api.domain.event.EventStatus;
-import com.seathold.api.redis.AvailabilityService;
+import com.seathold.api.inventory.AvailabilityStore;
+import com.seathold.api.inventory.InventoryRecovery;
+import com.seathold.api.ratelimit.RateLimiter;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
@@ -29,165 +41,286 @@ import lombok.extern.slf4j.Slf4j;
 public class ReservationService {
     private final ReservationRepository reservationRepository;
     private final EventService eventService;
-    private final AvailabilityService availabilityService;
-    private final StringRedisTemplate redis;
+    private final AvailabilityStore availabilityStore;
+    private final RateLimiter rateLimiter;
+    private final TransactionTemplate transactionTemplate;
+    private final HoldWriteBehind holdWriteBehind;
+    private final InventoryRecovery inventoryRecovery;
     private final int holdSeconds;
-    private final int lockSeconds;
-    private final int maxPerMinute;
+
+    private final Map<HoldOutcome, Timer> holdTimers = new EnumMap<>(HoldOutcome.class);
+    private final Timer rateLimitPhase;
+    private final Timer storePhase;
+    private final Timer insertPhase;
+    private final Counter confirmed;
+    private final Counter canceled;
+    private final Counter expiredOnConfirm;
 
     public ReservationService(
             ReservationRepository reservationRepository,
             EventService eventService,
-            AvailabilityService availabilityService,
-            StringRedisTemplate redis,
-            @Value("${app.hold.ttl-seconds:300}") int holdSeconds,
-            @Value("${app.hold.lock-seconds:5}") int lockSeconds,
-            @Value("${app.hold.rate-limit-per-minute:5}") int maxPerMinute) {
+            AvailabilityStore availabilityStore,
+            RateLimiter rateLimiter,
+            TransactionTemplate transactionTemplate,
+            HoldWriteBehind holdWriteBehind,
+            InventoryRecovery inventoryRecovery,
+            MeterRegistry meterRegistry,
+            @Value("${app.hold.ttl-seconds:300}") int holdSeconds) {
         this.reservationRepository = reservationRepository;
         this.eventService = eventService;
-        this.availabilityService = availabilityService;
-        this.redis = redis;
+        this.availabilityStore = availabilityStore;
+        this.rateLimiter = rateLimiter;
+        this.transactionTemplate = transactionTemplate;
+        this.holdWriteBehind = holdWriteBehind;
+        this.inventoryRecovery = inventoryRecovery;
         this.holdSeconds = holdSeconds;
-        this.lockSeconds = lockSeconds;
-        this.maxPerMinute = maxPerMinute;
-    }
 
-    @Transactional
-    public Reservation createHold(UUID eventId, UUID userId, int quantity) {
-        if (quantity <= 0) {
-            throw new BadRequestException("quantity must be > 0");
-        }
-
-        Event event = eventService.findById(eventId);
-        if (event.getStatus() != EventStatus.PUBLISHED) {
-            throw new NotFoundException("Event not found");
+        for (HoldOutcome outcome : HoldOutcome.values()) {
+            holdTimers.put(outcome, meterRegistry.timer("holds", "outcome", outcome.tag));
         }
+        this.rateLimitPhase = meterRegistry.timer("holds.phase", "phase", "rate_limit");
+        this.storePhase = meterRegistry.timer("holds.phase", "phase", "store");
+        this.insertPhase = meterRegistry.timer("holds.phase", "phase", "insert");
+        this.confirmed = meterRegistry.counter("reservations.transitions", "status", "confirmed", "source", "buyer");
+        this.canceled = meterRegistry.counter("reservations.transitions", "status", "canceled", "source", "buyer");
+        this.expiredOnConfirm = meterRegistry.counter("reservations.transitions", "status", "expired", "source", "buyer");
+    }
 
-        checkRateLimit(userId);
+    /**
+     * Admits the hold in Redis first and only then inserts the reservation in
+     * its own short transaction, so no JDBC connection is held while Redis
+     * is working. With write-behind on, the insert is queued instead and the
+     * pre-generated id is returned right away.
+     */
+    public Reservation createHold(UUID eventId, UUID userId, int quantity) {
+        HoldAdmissionEvent flight = new HoldAdmissionEvent();
+        flight.begin();
+        long startedAt = System.nanoTime();
+        HoldOutcome outcome = HoldOutcome.REJECTED;
+        UUID reservationId = null;
+        try {
+            if (quantity <= 0) {
+                throw new BadRequestException("quantity must be > 0");
+            }
 
-        String lockKey = RedisKeys.eventLock(eventId);
-        String lockToken = UUID.randomUUID().toString();
-        Boolean locked = redis.opsForValue().setIfAbsent(lockKey, lockToken, Duration.ofSeconds(lockSeconds));
-        if (locked == null || !locked) {
-            throw new ConflictException("Event is busy");
-        }
+            EventSnapshot event = eventService.findSnapshot(eventId);
+            if (event.status() != EventStatus.PUBLISHED) {
+                throw new NotFoundException("Event not found");
+            }
 
-        try {
-            Integer available = availabilityService.getAvailable(eventId);
-            if (available == null) {
-                availabilityService.init(eventId, event.getTotalCapacity());
+            long phase = System.nanoTime();
+            boolean allowed = rateLimiter.tryAcquire("holds", userId.toString());
+            rateLimitPhase.record(System.nanoTime() - phase, TimeUnit.NANOSECONDS);
+            if (!allowed) {
+                outcome = HoldOutcome.RATE_LIMITED;
+                throw new ConflictException("Rate limit exceeded");
             }
 
-            long remaining = availabilityService.decrBy(eventId, quantity);
-            if (remaining < 0) {
-                availabilityService.incrBy(eventId, quantity);
+            outcome = HoldOutcome.ERROR;
+            reservationId = UuidV7.next();
+            phase = System.nanoTime();
+            long remaining = hold(event, reservationId, userId, quantity);
+            if (remaining == AvailabilityStore.COUNTER_MISSING) {
+                inventoryRecovery.restore(eventId);
+                remaining = hold(event, reservationId, userId, quantity);
+            }
+            storePhase.record(System.nanoTime() - phase, TimeUnit.NANOSECONDS);
+            if (remaining == AvailabilityStore.COUNTER_MISSING) {
+                outcome = HoldOutcome.UNAVAILABLE;
+                throw new ConflictException("Seats are not available yet, try again");
+            }
+            if (remaining == AvailabilityStore.NOT_ENOUGH_SEATS) {
+                outcome = HoldOutcome.SOLD_OUT;
                 throw new ConflictException("Not enough seats");
             }
+            if (remaining == AvailabilityStore.USER_LIMIT_EXCEEDED) {
+                outcome = HoldOutcome.USER_LIMIT;
+                throw new ConflictException("Purchase limit exceeded");
+            }
 
-            LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(holdSeconds);
+            phase = System.nanoTime();
+            Reservation reservation = insert(eventId, reservationId, userId, quantity);
+            insertPhase.record(System.nanoTime() - phase, TimeUnit.NANOSECONDS);
+            outcome = HoldOutcome.SUCCESS;
+            return reservation;
+        } finally {
+            holdTimers.get(outcome).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            flight.complete(eventId, reservationId, quantity, outcome.tag);
+        }
+    }
+
+    private Reservation insert(UUID eventId, UUID reservationId, UUID userId, int quantity) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
             Reservation reservation = Reservation.builder()
+                    .id(reservationId)
                     .eventId(eventId)
                     .userId(userId)
                     .quantity(quantity)
                     .status(ReservationStatus.HOLD)
-                    .expiresAt(expiresAt)
+                    .expiresAt(now.plusSeconds(holdSeconds))
+                    .createdAt(now)
+                    .updatedAt(now)
                     .build();
 
-            Reservation saved = reservationRepository.save(reservation);
-            redis.opsForValue().set(
-                    RedisKeys.hold(saved.getId()),
-                    eventId + ":" + quantity,
-                    Duration.ofSeconds(holdSeconds));
-
-            return saved;
-        } finally {
-            redis.delete(lockKey);
+            if (holdWriteBehind.offer(reservation)) {
+                return reservation;
+            }
+            return reservationRepository.save(reservation);
+        } catch (RuntimeException e) {
+            log.warn("Hold insert failed, releasing seats: eventId={}, reservationId={}", eventId, reservationId);
+            availabilityStore.release(eventId, reservationId, userId, quantity);
+            throw e;
         }
     }
 
-    @Transactional
+    @Transactional(noRollbackFor = ConflictException.class)
     public Reservation confirm(UUID reservationId, UUID userId) {
-        Reservation reservation = reservationRepository.findByIdAndUserId(reservationId, userId)
-                .orElseThrow(() -> new NotFoundException("Reservation not found"));
+        ConfirmEvent flight = new ConfirmEvent();
+        flight.begin();
+        Reservation reservation = null;
+        String outcome = "error";
+        try {
+            holdWriteBehind.ensurePersisted(reservationId);
+            reservation = reservationRepository.findByIdAndUserId(reservationId, userId).orElse(null);
+            if (reservation == null) {
+                outcome = "not_found";
+                throw new NotFoundException("Reservation not found");
+            }
 
-        if (reservation.getStatus() != ReservationStatus.HOLD) {
-            throw new ConflictException("Reservation cannot be confirmed");
-        }
+            if (reservation.getStatus() != ReservationStatus.HOLD) {
+                outcome = "rejected";
+                throw new ConflictException("Reservation cannot be confirmed");
+            }
+
+            if (reservation.getExpiresAt() != null && reservation.getExpiresAt().isBefore(LocalDateTime.now())) {
+                outcome = "expired";
+                expire(reservation);
+                throw new ConflictException("Hold expired");
+            }
+
+            long claimed = availabilityStore.claimHold(reservation.getEventId(), reservationId, userId,
+                    reservation.getQuantity());
+            if (claimed == AvailabilityStore.COUNTER_MISSING) {
+                inventoryRecovery.restore(reservation.getEventId());
+                claimed = availabilityStore.claimHold(reservation.getEventId(), reservationId, userId,
+                        reservation.getQuantity());
+            }
+            if (claimed != AvailabilityStore.CLAIMED) {
+                outcome = "expired";
+                expire(reservation);
+                throw new ConflictException("Hold expired");
+            }
 
-        if (reservation.getExpiresAt() != null && reservation.getExpiresAt().isBefore(LocalDateTime.now())) {
-            reservation.setStatus(ReservationStatus.CANCELED);
+            reservation.setStatus(ReservationStatus.CONFIRMED);
             Reservation saved = reservationRepository.save(reservation);
-            availabilityService.incrBy(reservation.getEventId(), reservation.getQuantity());
-            redis.delete(RedisKeys.hold(reservationId));
-            throw new ConflictException("Hold expired");
+            confirmed.increment();
+            outcome = "confirmed";
+            return saved;
+        } finally {
+            flight.complete(reservation == null ? null : reservation.getEventId(), reservationId,
+                    reservation == null ? 0 : reservation.getQuantity(), outcome);
         }
-
-        reservation.setStatus(ReservationStatus.CONFIRMED);
-        Reservation saved = reservationRepository.save(reservation);
-        redis.delete(RedisKeys.hold(reservationId));
-        return saved;
     }
 
-    @Transactional
+    /**
+     * Commits the cancellation before giving the seats back, so the
+     * connection is returned to the pool before the Redis call.
+     */
     public Reservation cancel(UUID reservationId, UUID userId) {
-        Reservation reservation = reservationRepository.findByIdAndUserId(reservationId, userId)
-                .orElseThrow(() -> new NotFoundException("Reservation not found"));
+        CancelEvent flight = new CancelEvent();
+        flight.begin();
+        Reservation saved = null;
+        String outcome = "error";
+        try {
+            holdWriteBehind.ensurePersisted(reservationId);
+            saved = transactionTemplate.execute(status -> {
+                Reservation reservation = reservationRepository.findByIdAndUserId(reservationId, userId)
+                        .orElseThrow(() -> new NotFoundException("Reservation not found"));
 
-        if (reservation.getStatus() != ReservationStatus.HOLD) {
-            throw new ConflictException("Reservation cannot be canceled");
-        }
+                if (reservation.getStatus() != ReservationStatus.HOLD) {
+                    throw new ConflictException("Reservation cannot be canceled");
+                }
 
-        reservation.setStatus(ReservationStatus.CANCELED);
-        Reservation saved = reservationRepository.save(reservation);
-        availabilityService.incrBy(reservation.getEventId(), reservation.getQuantity());
-        redis.delete(RedisKeys.hold(reservationId));
-        return saved;
+                reservation.setStatus(ReservationStatus.CANCELED);
+                return reservationRepository.save(reservation);
+            });
+            canceled.increment();
+            availabilityStore.release(saved.getEventId(), reservationId, userId, saved.getQuantity());
+            outcome = "canceled";
+            return saved;
+        } catch (NotFoundException e) {
+            outcome = "not_found";
+            throw e;
+        } catch (ConflictException e) {
+            outcome = "rejected";
+            throw e;
+        } finally {
+            flight.complete(saved == null ? null : saved.getEventId(), reservationId,
+                    saved == null ? 0 : saved.getQuantity(), outcome);
+        }
     }
 
+    /**
+     * Lists a buyer's reservations newest first, one keyset page at a time.
+     */
     @Transactional(readOnly = true)
-    public Page<Reservation> listUserReservations(UUID userId, String status, Pageable pageable) {
+    public CursorPage<Reservation> listUserReservations(UUID userId, String status, String cursor, int size) {
+        KeysetCursor before = cursor == null ? KeysetCursor.last() : KeysetCursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+
+        List<Reservation> rows;
         if (status == null || status.isBlank()) {
-            return reservationRepository.findByUserId(userId, pageable);
+            rows = reservationRepository.findKeysetByUserId(userId, before.at(), before.id(), limit);
+        } else {
+            ReservationStatus parsed;
+            try {
+                parsed = ReservationStatus.valueOf(status.trim().toUpperCase(Locale.US));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Invalid status filter");
+            }
+            rows = reservationRepository.findKeysetByUserIdAndStatus(userId, parsed, before.at(), before.id(), limit);
         }
+        return CursorPage.of(rows, size, r -> new KeysetCursor(r.getCreatedAt(), r.getId()).encode());
+    }
 
-        String normalized = status.trim().toUpperCase(Locale.US);
-        LocalDateTime now = LocalDateTime.now();
-
-        if ("EXPIRED".equals(normalized)) {
-            return reservationRepository.findByUserIdAndStatusAndExpiresAtBefore(
-                    userId,
-                    ReservationStatus.HOLD,
-                    now,
-                    pageable);
-        }
+    private void expire(Reservation reservation) {
+        reservation.setStatus(ReservationStatus.EXPIRED);
+        reservationRepository.save(reservation);
+        expiredOnConfirm.increment();
+        availabilityStore.release(
+                reservation.getEventId(),
+                reservation.getId(),
+                reservation.getUserId(),
+                reservation.getQuantity());
+    }
 
-        ReservationStatus parsed;
-        try {
-            parsed = ReservationStatus.valueOf(normalized);
-        } catch (IllegalArgumentException e) {
-            throw new BadRequestException("Invalid status filter");
-        }
+    private long hold(EventSnapshot event, UUID reservationId, UUID userId, int quantity) {
+        return availabilityStore.hold(
+                event.id(),
+                reservationId,
+                userId,
+                quantity,
+                event.maxPerUser(),
+                Duration.ofSeconds(holdSeconds));
+    }
 
-        if (parsed == ReservationStatus.HOLD) {
-            return reservationRepository.findByUserIdAndStatusAndExpiresAtAfter(
-                    userId,
-                    ReservationStatus.HOLD,
-                    now,
-                    pageable);
-        }
+    /**
+     * Values of the {@code outcome} tag of the {@code holds} timer.
+     */
+    private enum HoldOutcome {
+        SUCCESS("success"),
+        SOLD_OUT("sold_out"),
+        USER_LIMIT("user_limit"),
+        RATE_LIMITED("rate_limited"),
+        UNAVAILABLE("unavailable"),
+        REJECTED("rejected"),
+        ERROR("error");
 
-        return reservationRepository.findByUserIdAndStatus(userId, parsed, pageable);
-    }
+        private final String tag;
 
-    private void checkRateLimit(UUID userId) {
-        String minuteKey = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmm"));
-        String key = RedisKeys.rateLimitUserMinute(userId, minuteKey);
-        Long count = redis.opsForValue().increment(key);
-        if (count != null && count == 1) {
-            redis.expire(key, Duration.ofMinutes(1));
-        }
-        if (count != null && count > maxPerMinute) {
-            throw new ConflictException("Rate limit exceeded");
+        HoldOutcome(String tag) {
+            this.tag = tag;
         }
     }
 }
@@ -3,5 +3,6 @@ package com.seathold.api.domain.reservation;
 public enum ReservationStatus {
     HOLD,
     CONFIRMED,
-    CANCELED
+    CANCELED,
+    EXPIRED
 }
@@ -0,0 +1,11 @@
+package com.seathold.api.domain.reservation;
+
+import java.util.UUID;
+
+/**
+ * Seats a buyer holds or owns for an event, summed over their confirmed
+ * reservations and live holds.
+ */
+public record SeatTally(UUID eventId, UUID userId, long seats) {
+
+}
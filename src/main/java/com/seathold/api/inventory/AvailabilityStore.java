@@ -0,0 +1,98 @@
+package com.seathold.api.inventory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Seat counters, buyer purchase caps and the hold deadline index of every
+ * published event. The implementation is picked with
+ * {@code app.inventory.store}.
+ */
+public interface AvailabilityStore {
+    long NOT_ENOUGH_SEATS = -1;
+    long USER_LIMIT_EXCEEDED = -2;
+    long COUNTER_MISSING = -3;
+    long ALREADY_RELEASED = -1;
+    long CLAIMED = 1;
+
+    /**
+     * Seeds the counter of a newly published event. An existing counter is
+     * left alone.
+     */
+    void init(UUID eventId, int totalCapacity);
+
+    /**
+     * @return the remaining seats, or {@code null} when the event has no
+     *         counter
+     */
+    Integer getAvailable(UUID eventId);
+
+    /**
+     * Reads the counters of several events in one round trip.
+     *
+     * @return remaining seats by event id; events without a counter are left
+     *         out
+     */
+    Map<UUID, Integer> getAvailable(List<UUID> eventIds);
+
+    /**
+     * Takes {@code quantity} seats, charges them to the buyer's purchase cap
+     * and indexes the hold's deadline for {@link #reapExpired}, atomically.
+     * A missing counter is never seeded here; it has to be
+     * {@link #restore restored} from the database.
+     *
+     * @param maxPerUser seats a buyer may hold or own for the event, or
+     *                   {@code null} for no cap
+     * @return the remaining seats, {@link #NOT_ENOUGH_SEATS},
+     *         {@link #USER_LIMIT_EXCEEDED} or {@link #COUNTER_MISSING}
+     */
+    long hold(UUID eventId, UUID reservationId, UUID userId, int quantity, Integer maxPerUser, Duration ttl);
+
+    /**
+     * Gives the seats of a hold back to the event and to the buyer's cap.
+     * Seats are only returned once, whichever of cancel, confirm or the
+     * expiry reaper gets there first.
+     *
+     * @return the remaining seats, or {@link #ALREADY_RELEASED}
+     */
+    long release(UUID eventId, UUID reservationId, UUID userId, int quantity);
+
+    /**
+     * Takes a hold out of the expiry index so its seats stay sold.
+     *
+     * @return {@link #CLAIMED}, {@link #COUNTER_MISSING}, or any other value
+     *         when the hold was already released or reaped
+     */
+    long claimHold(UUID eventId, UUID reservationId, UUID userId, int quantity);
+
+    Set<UUID> eventsWithHolds();
+
+    /**
+     * Drains up to {@code batchSize} expired holds of an event and gives
+     * their seats back to the event and to each buyer's cap.
+     *
+     * @return the ids of the reservations whose holds were drained
+     */
+    List<UUID> reapExpired(UUID eventId, int batchSize);
+
+    /**
+     * Moves a counter by {@code delta}, but only if it still reads
+     * {@code observed}, so a correction never lands on top of a change made
+     * after the drift was measured.
+     *
+     * @return true when the counter was adjusted
+     */
+    boolean adjust(UUID eventId, long observed, long delta);
+
+    /**
+     * Restores the missing counters of the given events, with their buyer
+     * counters and live hold index. Events whose counter exists are left
+     * alone.
+     *
+     * @return how many counters were restored
+     */
+    int restore(List<InventoryState> states);
+}
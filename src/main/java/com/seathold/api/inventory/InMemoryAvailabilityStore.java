@@ -0,0 +1,294 @@
+package com.seathold.api.inventory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link AvailabilityStore} kept in this JVM, for tests, benchmarks and
+ * single-node deployments. Counters are atomics in concurrent maps and a
+ * hold is released exactly once by whoever removes it from {@code holds}
+ * first. Hold deadlines sit in a hashed timer wheel; advancing it moves due
+ * holds to per-event queues that {@link #reapExpired} drains.
+ *
+ * <p>A hold takes the buyer's cap before the seats and gives the cap back
+ * if the seats run out, so a concurrent hold of the same buyer may briefly
+ * see the higher cap count. Counters never go below zero or above the cap.
+ */
+@Component
+@ConditionalOnProperty(name = "app.inventory.store", havingValue = "memory")
+public class InMemoryAvailabilityStore implements AvailabilityStore {
+    private final ConcurrentHashMap<UUID, AtomicInteger> available = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UserSeats, AtomicInteger> userSeats = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Hold> holds = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Queue<UUID>> due = new ConcurrentHashMap<>();
+
+    private final LongSupplier clock;
+    private final long tickMillis;
+    private final Queue<UUID>[] wheel;
+    private final ReentrantLock advanceLock = new ReentrantLock();
+    private long lastTick;
+
+    @Autowired
+    public InMemoryAvailabilityStore(
+            @Value("${app.inventory.memory.tick-ms:100}") long tickMillis,
+            @Value("${app.inventory.memory.wheel-size:1024}") int wheelSize) {
+        this(tickMillis, wheelSize, System::currentTimeMillis);
+    }
+
+    @SuppressWarnings("unchecked")
+    InMemoryAvailabilityStore(long tickMillis, int wheelSize, LongSupplier clock) {
+        this.clock = clock;
+        this.tickMillis = tickMillis;
+        this.wheel = new Queue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.lastTick = clock.getAsLong() / tickMillis;
+    }
+
+    @Override
+    public void init(UUID eventId, int totalCapacity) {
+        available.putIfAbsent(eventId, new AtomicInteger(totalCapacity));
+    }
+
+    @Override
+    public Integer getAvailable(UUID eventId) {
+        AtomicInteger counter = available.get(eventId);
+        return counter == null ? null : counter.get();
+    }
+
+    @Override
+    public Map<UUID, Integer> getAvailable(List<UUID> eventIds) {
+        Map<UUID, Integer> result = new HashMap<>(eventIds.size() * 2);
+        for (UUID eventId : eventIds) {
+            AtomicInteger counter = available.get(eventId);
+            if (counter != null) {
+                result.put(eventId, counter.get());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long hold(UUID eventId, UUID reservationId, UUID userId, int quantity, Integer maxPerUser,
+            Duration ttl) {
+        AtomicInteger counter = available.get(eventId);
+        if (counter == null) {
+            return COUNTER_MISSING;
+        }
+
+        AtomicInteger charged = userSeats.computeIfAbsent(new UserSeats(eventId, userId), k -> new AtomicInteger());
+        int cap = maxPerUser == null ? Integer.MAX_VALUE : maxPerUser;
+        if (!tryAdd(charged, quantity, cap)) {
+            return USER_LIMIT_EXCEEDED;
+        }
+        int remaining = tryTake(counter, quantity);
+        if (remaining < 0) {
+            charged.addAndGet(-quantity);
+            return NOT_ENOUGH_SEATS;
+        }
+
+        long deadline = clock.getAsLong() + ttl.toMillis();
+        holds.put(reservationId, new Hold(eventId, userId, quantity, deadline));
+        wheel[slot(deadline)].add(reservationId);
+        return remaining;
+    }
+
+    @Override
+    public long release(UUID eventId, UUID reservationId, UUID userId, int quantity) {
+        Hold hold = holds.remove(reservationId);
+        if (hold == null) {
+            return ALREADY_RELEASED;
+        }
+        // A rebuild only resets the counters of buyers that still hold seats.
+        refund(hold);
+        AtomicInteger counter = available.get(eventId);
+        if (counter == null) {
+            return ALREADY_RELEASED;
+        }
+        return counter.addAndGet(hold.quantity());
+    }
+
+    @Override
+    public long claimHold(UUID eventId, UUID reservationId, UUID userId, int quantity) {
+        if (!available.containsKey(eventId)) {
+            return COUNTER_MISSING;
+        }
+        return holds.remove(reservationId) != null ? CLAIMED : 0;
+    }
+
+    /**
+     * Only reports events with holds already past their deadline, which is
+     * all the expiry reaper needs.
+     */
+    @Override
+    public Set<UUID> eventsWithHolds() {
+        advance();
+        return due.entrySet().stream()
+                .filter(entry -> !entry.getValue().isEmpty())
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public List<UUID> reapExpired(UUID eventId, int batchSize) {
+        advance();
+        Queue<UUID> queue = due.get(eventId);
+        if (queue == null) {
+            return List.of();
+        }
+        AtomicInteger counter = available.get(eventId);
+        List<UUID> reaped = new ArrayList<>();
+        int seats = 0;
+        UUID reservationId;
+        while (reaped.size() < batchSize && (reservationId = queue.poll()) != null) {
+            Hold hold = holds.remove(reservationId);
+            if (hold == null) {
+                continue;
+            }
+            reaped.add(reservationId);
+            refund(hold);
+            seats += hold.quantity();
+        }
+        // A missing counter is rebuilt from the database, where these holds
+        // have expired, so there is nothing to give back to it.
+        if (counter != null && seats > 0) {
+            counter.addAndGet(seats);
+        }
+        return reaped;
+    }
+
+    @Override
+    public boolean adjust(UUID eventId, long observed, long delta) {
+        AtomicInteger counter = available.get(eventId);
+        return counter != null && counter.compareAndSet((int) observed, (int) (observed + delta));
+    }
+
+    /**
+     * Buyer counters and holds are put back before the counter itself;
+     * holds of the event cannot run until the counter exists. Holds left
+     * over from before the counter went missing are dropped first, so only
+     * the live holds counted by the database remain.
+     */
+    @Override
+    public int restore(List<InventoryState> states) {
+        int restored = 0;
+        for (InventoryState state : states) {
+            if (available.containsKey(state.eventId())) {
+                continue;
+            }
+            holds.values().removeIf(hold -> hold.eventId().equals(state.eventId()));
+            state.userSeats().forEach((userId, seats) -> userSeats
+                    .computeIfAbsent(new UserSeats(state.eventId(), userId), k -> new AtomicInteger())
+                    .set(seats.intValue()));
+            for (InventoryState.Hold hold : state.holds()) {
+                Hold entry = new Hold(state.eventId(), hold.userId(), hold.quantity(), hold.deadlineMillis());
+                if (holds.putIfAbsent(hold.reservationId(), entry) == null) {
+                    wheel[slot(hold.deadlineMillis())].add(hold.reservationId());
+                }
+            }
+            if (available.putIfAbsent(state.eventId(), new AtomicInteger(state.available())) == null) {
+                restored++;
+            }
+        }
+        return restored;
+    }
+
+    /**
+     * Moves the holds of every tick passed since the last call to the due
+     * queues. Holds scheduled for a later turn of the wheel go back in their
+     * slot. Concurrent callers skip the work instead of waiting for it.
+     */
+    private void advance() {
+        if (!advanceLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = clock.getAsLong();
+            long nowTick = now / tickMillis;
+            long from = Math.max(lastTick, nowTick - wheel.length + 1);
+            for (long tick = from; tick <= nowTick; tick++) {
+                Queue<UUID> slot = wheel[(int) (tick % wheel.length)];
+                List<UUID> later = new ArrayList<>();
+                UUID reservationId;
+                while ((reservationId = slot.poll()) != null) {
+                    Hold hold = holds.get(reservationId);
+                    if (hold == null) {
+                        continue;
+                    }
+                    if (hold.deadlineMillis() <= now) {
+                        due.computeIfAbsent(hold.eventId(), k -> new ConcurrentLinkedQueue<>()).add(reservationId);
+                    } else {
+                        later.add(reservationId);
+                    }
+                }
+                slot.addAll(later);
+            }
+            lastTick = nowTick;
+        } finally {
+            advanceLock.unlock();
+        }
+    }
+
+    private int slot(long deadlineMillis) {
+        return (int) ((deadlineMillis / tickMillis) % wheel.length);
+    }
+
+    private void refund(Hold hold) {
+        AtomicInteger charged = userSeats.get(new UserSeats(hold.eventId(), hold.userId()));
+        if (charged != null) {
+            charged.updateAndGet(seats -> Math.max(0, seats - hold.quantity()));
+        }
+    }
+
+    private static boolean tryAdd(AtomicInteger value, int delta, int max) {
+        while (true) {
+            int current = value.get();
+            if (current + delta > max) {
+                return false;
+            }
+            if (value.compareAndSet(current, current + delta)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return the seats left after taking {@code quantity}, or -1 if there
+     *         were not enough
+     */
+    private static int tryTake(AtomicInteger value, int quantity) {
+        while (true) {
+            int current = value.get();
+            if (current < quantity) {
+                return -1;
+            }
+            if (value.compareAndSet(current, current - quantity)) {
+                return current - quantity;
+            }
+        }
+    }
+
+    private record UserSeats(UUID eventId, UUID userId) {
+    }
+
+    private record Hold(UUID eventId, UUID userId, int quantity, long deadlineMillis) {
+    }
+}
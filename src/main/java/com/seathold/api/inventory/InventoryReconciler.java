@@ -0,0 +1,195 @@
+package com.seathold.api.inventory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.seathold.api.domain.event.EventCapacity;
+import com.seathold.api.domain.event.EventRepository;
+import com.seathold.api.domain.event.EventStatus;
+import com.seathold.api.domain.reservation.EventSeatTotals;
+import com.seathold.api.domain.reservation.ReservationRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares the {@link AvailabilityStore} seat counters of published events
+ * with capacity minus the seats taken in the database, and reports the
+ * difference as drift.
+ *
+ * <p>Each run only checks events whose reservations changed since the last
+ * run (by {@code updated_at}), plus events already suspected of drifting;
+ * every {@code full-sweep-every} runs all published events are checked.
+ * Holds and cancels in flight make counters differ for a moment, so drift
+ * only counts once the same counter and expected value are seen on two
+ * consecutive runs, and events with holds waiting for the reaper are
+ * skipped. With {@code auto-correct} on, stable drift is fixed with a
+ * compare-and-set on the counter value that was measured.
+ */
+@Component
+@Slf4j
+public class InventoryReconciler {
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final EventRepository eventRepository;
+    private final ReservationRepository reservationRepository;
+    private final AvailabilityStore availabilityStore;
+    private final boolean enabled;
+    private final boolean autoCorrect;
+    private final int batchSize;
+    private final int fullSweepEvery;
+    private final long overlapSeconds;
+
+    private final Map<UUID, Observation> suspects = new HashMap<>();
+    private final AtomicLong driftedEvents = new AtomicLong();
+    private final AtomicLong driftedSeats = new AtomicLong();
+    private final Counter corrections;
+    private final Timer runs;
+    private LocalDateTime watermark;
+    private long runCount;
+
+    public InventoryReconciler(
+            EventRepository eventRepository,
+            ReservationRepository reservationRepository,
+            AvailabilityStore availabilityStore,
+            MeterRegistry meterRegistry,
+            @Value("${app.inventory.reconcile.enabled:true}") boolean enabled,
+            @Value("${app.inventory.reconcile.auto-correct:false}") boolean autoCorrect,
+            @Value("${app.inventory.reconcile.batch-size:500}") int batchSize,
+            @Value("${app.inventory.reconcile.full-sweep-every:60}") int fullSweepEvery,
+            @Value("${app.inventory.reconcile.overlap-seconds:5}") long overlapSeconds) {
+        this.eventRepository = eventRepository;
+        this.reservationRepository = reservationRepository;
+        this.availabilityStore = availabilityStore;
+        this.enabled = enabled;
+        this.autoCorrect = autoCorrect;
+        this.batchSize = batchSize;
+        this.fullSweepEvery = fullSweepEvery;
+        this.overlapSeconds = overlapSeconds;
+        meterRegistry.gauge("inventory.drift.events", driftedEvents);
+        meterRegistry.gauge("inventory.drift.seats", driftedSeats);
+        this.corrections = meterRegistry.counter("inventory.drift.corrections");
+        this.runs = meterRegistry.timer("inventory.reconcile");
+    }
+
+    @Scheduled(fixedDelayString = "${app.inventory.reconcile.interval-ms:5000}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            runs.record(this::run);
+        } catch (Exception e) {
+            log.error("Inventory reconciliation failed", e);
+        }
+    }
+
+    private void run() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        if (watermark == null || runCount % fullSweepEvery == 0) {
+            sweepAll(startedAt);
+        } else {
+            Set<UUID> ids = new LinkedHashSet<>(
+                    reservationRepository.findEventIdsUpdatedSince(watermark.minusSeconds(overlapSeconds)));
+            ids.addAll(suspects.keySet());
+            List<UUID> pending = new ArrayList<>(ids);
+            for (int i = 0; i < pending.size(); i += batchSize) {
+                List<UUID> slice = pending.subList(i, Math.min(i + batchSize, pending.size()));
+                Set<UUID> unpublished = new LinkedHashSet<>(slice);
+                List<EventCapacity> events = eventRepository.findCapacitiesByIdInAndStatus(slice, EventStatus.PUBLISHED);
+                events.forEach(event -> unpublished.remove(event.id()));
+                unpublished.forEach(suspects::remove);
+                check(events, startedAt);
+            }
+        }
+        watermark = startedAt;
+        runCount++;
+
+        long events = 0;
+        long seats = 0;
+        for (Observation observation : suspects.values()) {
+            if (observation.stable()) {
+                events++;
+                seats += Math.abs(observation.actual() - observation.expected());
+            }
+        }
+        driftedEvents.set(events);
+        driftedSeats.set(seats);
+    }
+
+    private void sweepAll(LocalDateTime now) {
+        Set<UUID> seen = new LinkedHashSet<>();
+        UUID after = FIRST_ID;
+        List<EventCapacity> batch;
+        do {
+            batch = eventRepository.findCapacitiesByStatus(EventStatus.PUBLISHED, after, Limit.of(batchSize));
+            if (!batch.isEmpty()) {
+                check(batch, now);
+                batch.forEach(event -> seen.add(event.id()));
+                after = batch.get(batch.size() - 1).id();
+            }
+        } while (batch.size() == batchSize);
+        suspects.keySet().retainAll(seen);
+    }
+
+    private void check(List<EventCapacity> events, LocalDateTime now) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = events.stream().map(EventCapacity::id).toList();
+        Map<UUID, Integer> counters = availabilityStore.getAvailable(ids);
+        Map<UUID, EventSeatTotals> totals = reservationRepository.totalTakenSeats(ids, now).stream()
+                .collect(Collectors.toMap(EventSeatTotals::eventId, Function.identity()));
+
+        for (EventCapacity event : events) {
+            UUID eventId = event.id();
+            Integer actual = counters.get(eventId);
+            EventSeatTotals taken = totals.get(eventId);
+            if (actual == null || (taken != null && taken.overdueHolds() > 0)) {
+                // Missing counters belong to InventoryRecovery; overdue holds
+                // are still being given back by the reaper.
+                suspects.remove(eventId);
+                continue;
+            }
+
+            long expected = event.totalCapacity() - (taken == null ? 0 : taken.seats());
+            if (actual == expected) {
+                suspects.remove(eventId);
+                continue;
+            }
+
+            Observation previous = suspects.get(eventId);
+            boolean stable = previous != null && previous.actual() == actual && previous.expected() == expected;
+            suspects.put(eventId, new Observation(actual, expected, stable));
+            if (!stable) {
+                continue;
+            }
+
+            log.warn("Seat counter drift: eventId={}, redis={}, expected={}", eventId, actual, expected);
+            if (autoCorrect && availabilityStore.adjust(eventId, actual, expected - actual)) {
+                log.warn("Seat counter corrected: eventId={}, from={}, to={}", eventId, actual, expected);
+                corrections.increment();
+                suspects.remove(eventId);
+            }
+        }
+    }
+
+    private record Observation(long actual, long expected, boolean stable) {
+    }
+}
@@ -0,0 +1,166 @@
+package com.seathold.api.inventory;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.seathold.api.domain.event.EventCapacity;
+import com.seathold.api.domain.event.EventRepository;
+import com.seathold.api.domain.event.EventStatus;
+import com.seathold.api.domain.reservation.HoldWriteBehind;
+import com.seathold.api.domain.reservation.LiveHold;
+import com.seathold.api.domain.reservation.ReservationRepository;
+import com.seathold.api.domain.reservation.SeatTally;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rebuilds lost {@link AvailabilityStore} seat counters from the database,
+ * as capacity minus confirmed seats minus live holds. Runs for every
+ * published event at startup and on demand when a hold or confirm finds a
+ * counter missing. On-demand rebuilds are single-flight per event.
+ *
+ * <p>Holds still queued in {@link HoldWriteBehind} took their seats from the
+ * lost counter too, so they are written out before the database is read.
+ */
+@Component
+@Slf4j
+public class InventoryRecovery {
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final EventRepository eventRepository;
+    private final ReservationRepository reservationRepository;
+    private final AvailabilityStore availabilityStore;
+    private final HoldWriteBehind holdWriteBehind;
+    private final TransactionTemplate readTemplate;
+    private final int batchSize;
+    private final ConcurrentHashMap<UUID, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    public InventoryRecovery(
+            EventRepository eventRepository,
+            ReservationRepository reservationRepository,
+            AvailabilityStore availabilityStore,
+            HoldWriteBehind holdWriteBehind,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.inventory.recovery.batch-size:500}") int batchSize) {
+        this.eventRepository = eventRepository;
+        this.reservationRepository = reservationRepository;
+        this.availabilityStore = availabilityStore;
+        this.holdWriteBehind = holdWriteBehind;
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        this.readTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreAll() {
+        int events = 0;
+        int restored = 0;
+        try {
+            UUID after = FIRST_ID;
+            List<EventCapacity> batch;
+            do {
+                batch = eventRepository.findCapacitiesByStatus(EventStatus.PUBLISHED, after, Limit.of(batchSize));
+                if (!batch.isEmpty()) {
+                    restored += restoreBatch(batch);
+                    events += batch.size();
+                    after = batch.get(batch.size() - 1).id();
+                }
+            } while (batch.size() == batchSize);
+            log.info("Inventory recovery finished: events={}, restored={}", events, restored);
+        } catch (Exception e) {
+            log.error("Inventory recovery failed after {} events", events, e);
+        }
+    }
+
+    /**
+     * Restores the counter of one published event if it is missing. Callers
+     * racing on the same event wait for a single rebuild.
+     */
+    public void restore(UUID eventId) {
+        CompletableFuture<Void> rebuild = new CompletableFuture<>();
+        CompletableFuture<Void> running = inFlight.putIfAbsent(eventId, rebuild);
+        if (running != null) {
+            try {
+                running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+            return;
+        }
+
+        try {
+            eventRepository.findCapacityByIdAndStatus(eventId, EventStatus.PUBLISHED)
+                    .ifPresent(event -> {
+                        if (restoreBatch(List.of(event)) > 0) {
+                            log.warn("Restored missing seat counter: eventId={}", eventId);
+                        }
+                    });
+            rebuild.complete(null);
+        } catch (RuntimeException e) {
+            rebuild.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(eventId, rebuild);
+        }
+    }
+
+    private int restoreBatch(List<EventCapacity> events) {
+        holdWriteBehind.persistQueued();
+        List<InventoryState> states = readTemplate.execute(status -> load(events));
+        return availabilityStore.restore(states);
+    }
+
+    private List<InventoryState> load(List<EventCapacity> events) {
+        List<UUID> ids = events.stream().map(EventCapacity::id).toList();
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<UUID, Map<UUID, Long>> seatsByEvent = new HashMap<>();
+        for (SeatTally tally : reservationRepository.tallyTakenSeats(ids, now)) {
+            seatsByEvent.computeIfAbsent(tally.eventId(), id -> new HashMap<>()).put(tally.userId(), tally.seats());
+        }
+        Map<UUID, List<InventoryState.Hold>> holdsByEvent = new HashMap<>();
+        for (LiveHold hold : reservationRepository.findLiveHolds(ids, now)) {
+            holdsByEvent.computeIfAbsent(hold.eventId(), id -> new ArrayList<>()).add(new InventoryState.Hold(
+                    hold.id(),
+                    hold.userId(),
+                    hold.quantity(),
+                    hold.expiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+        }
+
+        List<InventoryState> states = new ArrayList<>(events.size());
+        for (EventCapacity event : events) {
+            Map<UUID, Long> userSeats = seatsByEvent.getOrDefault(event.id(), Map.of());
+            long taken = userSeats.values().stream().mapToLong(Long::longValue).sum();
+            long available = event.totalCapacity() - taken;
+            if (available < 0) {
+                log.error("Event is oversold in the database: eventId={}, capacity={}, taken={}",
+                        event.id(), event.totalCapacity(), taken);
+                available = 0;
+            }
+            states.add(new InventoryState(
+                    event.id(),
+                    (int) available,
+                    event.maxPerUser() == null ? Map.of() : userSeats,
+                    holdsByEvent.getOrDefault(event.id(), List.of())));
+        }
+        return states;
+    }
+}
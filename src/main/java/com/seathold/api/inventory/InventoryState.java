@@ -0,0 +1,23 @@
+package com.seathold.api.inventory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Inventory of one event as derived from the database, used to restore a
+ * lost seat counter.
+ *
+ * @param available seats neither confirmed nor held
+ * @param userSeats seats each buyer holds or owns, for capped events only
+ * @param holds     holds still live, to be put back in the deadline index
+ */
+public record InventoryState(
+        UUID eventId,
+        int available,
+        Map<UUID, Long> userSeats,
+        List<Hold> holds) {
+
+    public record Hold(UUID reservationId, UUID userId, int quantity, long deadlineMillis) {
+    }
+}
@@ -0,0 +1,237 @@
+package com.seathold.api.inventory;
+
+import java.sql.Array;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@link AvailabilityStore} kept in Postgres, for deployments without Redis.
+ * Seats live in {@code events.available_seats} and are taken with a
+ * conditional UPDATE, so there is no explicit lock and no read-modify-write.
+ * {@code seat_holds} plays the part of the Redis deadline index and
+ * {@code event_user_seats} that of the buyer counters. Each operation is one
+ * short transaction of its own, since the pool doesn't auto-commit, and
+ * locks rows in the same order: the hold, the event, then the buyer.
+ */
+@Component
+@ConditionalOnProperty(name = "app.inventory.store", havingValue = "postgres")
+public class PostgresAvailabilityStore implements AvailabilityStore {
+    private static final String TAKE_SEATS_SQL = """
+            update events set available_seats = available_seats - ?
+             where id = ? and available_seats >= ?
+            returning available_seats
+            """;
+    private static final String RETURN_SEATS_SQL = """
+            update events set available_seats = available_seats + ?
+             where id = ? and available_seats is not null
+            returning available_seats
+            """;
+    private static final String CHARGE_USER_SQL = """
+            insert into event_user_seats (event_id, user_id, seats) values (?, ?, ?)
+            on conflict (event_id, user_id) do update set seats = event_user_seats.seats + excluded.seats
+            """;
+    private static final String CHARGE_CAPPED_USER_SQL = CHARGE_USER_SQL
+            + " where event_user_seats.seats + excluded.seats <= ?";
+    private static final String REFUND_USER_SQL = """
+            update event_user_seats set seats = seats - ? where event_id = ? and user_id = ?
+            """;
+    private static final String INSERT_HOLD_SQL = """
+            insert into seat_holds (reservation_id, event_id, user_id, quantity, expires_at) values (?, ?, ?, ?, ?)
+            on conflict (reservation_id) do nothing
+            """;
+    private static final String REAP_SQL = """
+            delete from seat_holds
+             where reservation_id in (
+                   select reservation_id from seat_holds
+                    where event_id = ? and expires_at <= ?
+                    order by expires_at
+                    limit ?
+                      for update skip locked)
+            returning reservation_id, user_id, quantity
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public PostgresAvailabilityStore(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void init(UUID eventId, int totalCapacity) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                "update events set available_seats = ? where id = ? and available_seats is null",
+                totalCapacity, eventId));
+    }
+
+    @Override
+    public Integer getAvailable(UUID eventId) {
+        List<Integer> rows = jdbcTemplate.query(
+                "select available_seats from events where id = ?",
+                (rs, i) -> (Integer) rs.getObject(1),
+                eventId);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    @Override
+    public Map<UUID, Integer> getAvailable(List<UUID> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, Integer> available = new HashMap<>(eventIds.size() * 2);
+        jdbcTemplate.query(
+                connection -> {
+                    var ps = connection.prepareStatement(
+                            "select id, available_seats from events where id = any(?) and available_seats is not null");
+                    Array ids = connection.createArrayOf("uuid", eventIds.toArray());
+                    ps.setArray(1, ids);
+                    return ps;
+                },
+                rs -> {
+                    available.put(rs.getObject(1, UUID.class), rs.getInt(2));
+                });
+        return available;
+    }
+
+    @Override
+    public long hold(UUID eventId, UUID reservationId, UUID userId, int quantity, Integer maxPerUser,
+            Duration ttl) {
+        if (maxPerUser != null && quantity > maxPerUser) {
+            return USER_LIMIT_EXCEEDED;
+        }
+        Timestamp expiresAt = Timestamp.valueOf(LocalDateTime.now().plus(ttl));
+        Long remaining = transactionTemplate.execute(status -> {
+            // Seats are taken before the buyer is charged: every operation
+            // locks the event row before the buyer's, so they can't deadlock.
+            List<Integer> taken = jdbcTemplate.query(
+                    TAKE_SEATS_SQL, (rs, i) -> rs.getInt(1), quantity, eventId, quantity);
+            if (taken.isEmpty()) {
+                status.setRollbackOnly();
+                return getAvailable(eventId) == null ? COUNTER_MISSING : NOT_ENOUGH_SEATS;
+            }
+            int charged = maxPerUser == null
+                    ? jdbcTemplate.update(CHARGE_USER_SQL, eventId, userId, quantity)
+                    : jdbcTemplate.update(CHARGE_CAPPED_USER_SQL, eventId, userId, quantity, maxPerUser);
+            if (charged == 0) {
+                status.setRollbackOnly();
+                return USER_LIMIT_EXCEEDED;
+            }
+            jdbcTemplate.update(INSERT_HOLD_SQL, reservationId, eventId, userId, quantity, expiresAt);
+            return (long) taken.get(0);
+        });
+        return remaining == null ? Long.MIN_VALUE : remaining;
+    }
+
+    @Override
+    public long release(UUID eventId, UUID reservationId, UUID userId, int quantity) {
+        Long remaining = transactionTemplate.execute(status -> {
+            if (jdbcTemplate.update("delete from seat_holds where reservation_id = ?", reservationId) == 0) {
+                return ALREADY_RELEASED;
+            }
+            List<Integer> returned = jdbcTemplate.query(
+                    RETURN_SEATS_SQL, (rs, i) -> rs.getInt(1), quantity, eventId);
+            if (returned.isEmpty()) {
+                return ALREADY_RELEASED;
+            }
+            jdbcTemplate.update(REFUND_USER_SQL, quantity, eventId, userId);
+            return (long) returned.get(0);
+        });
+        return remaining == null ? Long.MIN_VALUE : remaining;
+    }
+
+    @Override
+    public long claimHold(UUID eventId, UUID reservationId, UUID userId, int quantity) {
+        if (getAvailable(eventId) == null) {
+            return COUNTER_MISSING;
+        }
+        return jdbcTemplate.update("delete from seat_holds where reservation_id = ?", reservationId);
+    }
+
+    @Override
+    public Set<UUID> eventsWithHolds() {
+        return new HashSet<>(jdbcTemplate.queryForList("select distinct event_id from seat_holds", UUID.class));
+    }
+
+    @Override
+    public List<UUID> reapExpired(UUID eventId, int batchSize) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<UUID> reaped = transactionTemplate.execute(status -> {
+            Map<UUID, Integer> seatsByUser = new HashMap<>();
+            List<UUID> reservationIds = jdbcTemplate.query(REAP_SQL, (rs, i) -> {
+                seatsByUser.merge(rs.getObject(2, UUID.class), rs.getInt(3), Integer::sum);
+                return rs.getObject(1, UUID.class);
+            }, eventId, now, batchSize);
+            if (reservationIds.isEmpty()) {
+                return reservationIds;
+            }
+
+            int seats = seatsByUser.values().stream().mapToInt(Integer::intValue).sum();
+            // A missing counter is rebuilt from the database, where these
+            // holds have expired, so there is nothing to give back.
+            if (!jdbcTemplate.query(RETURN_SEATS_SQL, (rs, i) -> rs.getInt(1), seats, eventId).isEmpty()) {
+                List<Object[]> refunds = new ArrayList<>(seatsByUser.size());
+                seatsByUser.forEach((userId, quantity) -> refunds.add(new Object[] { quantity, eventId, userId }));
+                jdbcTemplate.batchUpdate(REFUND_USER_SQL, refunds);
+            }
+            return reservationIds;
+        });
+        return reaped == null ? List.of() : reaped;
+    }
+
+    @Override
+    public boolean adjust(UUID eventId, long observed, long delta) {
+        Integer updated = transactionTemplate.execute(status -> jdbcTemplate.update(
+                "update events set available_seats = available_seats + ? where id = ? and available_seats = ?",
+                delta, eventId, observed));
+        return updated != null && updated == 1;
+    }
+
+    @Override
+    public int restore(List<InventoryState> states) {
+        if (states.isEmpty()) {
+            return 0;
+        }
+        Integer restored = transactionTemplate.execute(status -> {
+            int count = 0;
+            for (InventoryState state : states) {
+                int updated = jdbcTemplate.update(
+                        "update events set available_seats = ? where id = ? and available_seats is null",
+                        state.available(), state.eventId());
+                if (updated == 0) {
+                    continue;
+                }
+                count++;
+
+                List<Object[]> users = new ArrayList<>(state.userSeats().size());
+                state.userSeats().forEach((userId, seats) -> users.add(new Object[] { state.eventId(), userId, seats }));
+                jdbcTemplate.batchUpdate("""
+                        insert into event_user_seats (event_id, user_id, seats) values (?, ?, ?)
+                        on conflict (event_id, user_id) do update set seats = excluded.seats
+                        """, users);
+
+                List<Object[]> holds = new ArrayList<>(state.holds().size());
+                for (InventoryState.Hold hold : state.holds()) {
+                    holds.add(new Object[] { hold.reservationId(), state.eventId(), hold.userId(), hold.quantity(),
+                            new Timestamp(hold.deadlineMillis()) });
+                }
+                jdbcTemplate.batchUpdate(INSERT_HOLD_SQL, holds);
+            }
+            return count;
+        });
+        return restored == null ? 0 : restored;
+    }
+}
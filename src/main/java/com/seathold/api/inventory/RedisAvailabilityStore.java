@@ -0,0 +1,243 @@
+package com.seathold.api.inventory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.seathold.api.common.constants.RedisKeys;
+
+/**
+ * {@link AvailabilityStore} kept in Redis, one Lua script call per
+ * operation. Every change to a seat counter is published on
+ * {@link RedisKeys#availabilityChannel()} as {@code eventId:remaining}.
+ */
+@Service
+@ConditionalOnProperty(name = "app.inventory.store", havingValue = "redis", matchIfMissing = true)
+public class RedisAvailabilityStore implements AvailabilityStore {
+    private static final RedisScript<Long> HOLD_SCRIPT = RedisScript.of(new ClassPathResource("redis/hold.lua"),
+            Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of(
+            new ClassPathResource("redis/release.lua"), Long.class);
+    private static final RedisScript<Long> CLAIM_SCRIPT = RedisScript.of(new ClassPathResource("redis/claim.lua"),
+            Long.class);
+    private static final RedisScript<Long> ADJUST_SCRIPT = RedisScript.of(new ClassPathResource("redis/adjust.lua"),
+            Long.class);
+    private static final RedisScript<Long> RESTORE_SCRIPT = RedisScript.of(
+            new ClassPathResource("redis/restore.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> REAP_SCRIPT = RedisScript.of(new ClassPathResource("redis/reap.lua"),
+            List.class);
+
+    private final StringRedisTemplate redis;
+
+    public RedisAvailabilityStore(StringRedisTemplate redis) {
+        this.redis = redis;
+    }
+
+    @Override
+    public void init(UUID eventId, int totalCapacity) {
+        Boolean created = redis.opsForValue().setIfAbsent(
+                RedisKeys.eventAvailable(eventId), String.valueOf(totalCapacity));
+        if (Boolean.TRUE.equals(created)) {
+            publish(eventId, totalCapacity);
+        }
+    }
+
+    @Override
+    public Integer getAvailable(UUID eventId) {
+        String v = redis.opsForValue().get(RedisKeys.eventAvailable(eventId));
+        return v == null ? null : Integer.valueOf(v);
+    }
+
+    @Override
+    public Map<UUID, Integer> getAvailable(List<UUID> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Map.of();
+        }
+        List<String> values = redis.opsForValue().multiGet(
+                eventIds.stream().map(RedisKeys::eventAvailable).toList());
+        Map<UUID, Integer> available = new HashMap<>(eventIds.size() * 2);
+        if (values == null) {
+            return available;
+        }
+        for (int i = 0; i < eventIds.size(); i++) {
+            String v = values.get(i);
+            if (v != null) {
+                available.put(eventIds.get(i), Integer.valueOf(v));
+            }
+        }
+        return available;
+    }
+
+    @Override
+    public long hold(UUID eventId, UUID reservationId, UUID userId, int quantity, Integer maxPerUser,
+            Duration ttl) {
+        Long v = redis.execute(
+                HOLD_SCRIPT,
+                List.of(
+                        RedisKeys.eventAvailable(eventId),
+                        RedisKeys.hold(reservationId),
+                        RedisKeys.eventHolds(eventId),
+                        RedisKeys.holdEvents(),
+                        RedisKeys.eventUserSeats(eventId, userId)),
+                String.valueOf(quantity),
+                String.valueOf(ttl.toSeconds()),
+                eventId + ":" + quantity,
+                holdMember(reservationId, userId, quantity),
+                eventId.toString(),
+                String.valueOf(maxPerUser == null ? 0 : maxPerUser),
+                RedisKeys.availabilityChannel());
+        return v == null ? Long.MIN_VALUE : v;
+    }
+
+    @Override
+    public long release(UUID eventId, UUID reservationId, UUID userId, int quantity) {
+        Long v = redis.execute(
+                RELEASE_SCRIPT,
+                List.of(
+                        RedisKeys.eventAvailable(eventId),
+                        RedisKeys.hold(reservationId),
+                        RedisKeys.eventHolds(eventId),
+                        RedisKeys.eventUserSeats(eventId, userId)),
+                String.valueOf(quantity),
+                holdMember(reservationId, userId, quantity),
+                eventId.toString(),
+                RedisKeys.availabilityChannel());
+        return v == null ? Long.MIN_VALUE : v;
+    }
+
+    @Override
+    public long claimHold(UUID eventId, UUID reservationId, UUID userId, int quantity) {
+        Long v = redis.execute(
+                CLAIM_SCRIPT,
+                List.of(RedisKeys.hold(reservationId), RedisKeys.eventHolds(eventId), RedisKeys.eventAvailable(eventId)),
+                holdMember(reservationId, userId, quantity));
+        return v == null ? Long.MIN_VALUE : v;
+    }
+
+    @Override
+    public boolean adjust(UUID eventId, long observed, long delta) {
+        Long v = redis.execute(
+                ADJUST_SCRIPT,
+                List.of(RedisKeys.eventAvailable(eventId)),
+                String.valueOf(observed),
+                String.valueOf(delta),
+                eventId.toString(),
+                RedisKeys.availabilityChannel());
+        return v != null && v == 1;
+    }
+
+    @Override
+    public int restore(List<InventoryState> states) {
+        if (states.isEmpty()) {
+            return 0;
+        }
+        List<Object> results = redis.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({ "unchecked", "rawtypes" })
+            public Object execute(RedisOperations operations) {
+                for (InventoryState state : states) {
+                    operations.execute(RESTORE_SCRIPT, restoreKeys(state), restoreArgs(state).toArray());
+                }
+                return null;
+            }
+        });
+        int restored = 0;
+        for (Object result : results) {
+            if (result instanceof Long v && v == 1) {
+                restored++;
+            }
+        }
+        return restored;
+    }
+
+    @Override
+    public Set<UUID> eventsWithHolds() {
+        Set<String> members = redis.opsForSet().members(RedisKeys.holdEvents());
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(UUID::fromString).collect(Collectors.toSet());
+    }
+
+    /**
+     * Reads the earliest deadlines of the event, then hands them to the
+     * script together with their buyers' seat counter keys, so every key
+     * the script touches is declared up front. The script drains only the
+     * members still indexed and due, and drops the event from the set of
+     * events with holds once its index is empty.
+     */
+    @Override
+    public List<UUID> reapExpired(UUID eventId, int batchSize) {
+        Set<String> earliest = redis.opsForZSet().range(RedisKeys.eventHolds(eventId), 0, batchSize - 1);
+        if (earliest == null) {
+            earliest = Set.of();
+        }
+        List<String> keys = new ArrayList<>(3 + earliest.size());
+        keys.add(RedisKeys.eventHolds(eventId));
+        keys.add(RedisKeys.eventAvailable(eventId));
+        keys.add(RedisKeys.holdEvents());
+        List<String> args = new ArrayList<>(2 + earliest.size());
+        args.add(eventId.toString());
+        args.add(RedisKeys.availabilityChannel());
+        for (String member : earliest) {
+            String[] parts = member.split(":");
+            keys.add(RedisKeys.eventUserSeats(eventId, UUID.fromString(parts[1])));
+            args.add(member);
+        }
+        List<?> members = redis.execute(REAP_SCRIPT, keys, args.toArray());
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> reservationIds = new ArrayList<>(members.size());
+        for (Object member : members) {
+            String value = member.toString();
+            reservationIds.add(UUID.fromString(value.substring(0, value.indexOf(':'))));
+        }
+        return reservationIds;
+    }
+
+    private static List<String> restoreKeys(InventoryState state) {
+        List<String> keys = new ArrayList<>(3 + state.userSeats().size());
+        keys.add(RedisKeys.eventAvailable(state.eventId()));
+        keys.add(RedisKeys.eventHolds(state.eventId()));
+        keys.add(RedisKeys.holdEvents());
+        state.userSeats().keySet().forEach(userId -> keys.add(RedisKeys.eventUserSeats(state.eventId(), userId)));
+        return keys;
+    }
+
+    private static List<String> restoreArgs(InventoryState state) {
+        List<String> args = new ArrayList<>(3 + state.userSeats().size() + state.holds().size() * 2);
+        args.add(String.valueOf(state.available()));
+        args.add(state.eventId().toString());
+        args.add(RedisKeys.availabilityChannel());
+        state.userSeats().values().forEach(seats -> args.add(String.valueOf(seats)));
+        for (InventoryState.Hold hold : state.holds()) {
+            args.add(String.valueOf(hold.deadlineMillis()));
+            args.add(holdMember(hold.reservationId(), hold.userId(), hold.quantity()));
+        }
+        return args;
+    }
+
+    private void publish(UUID eventId, long remaining) {
+        redis.convertAndSend(RedisKeys.availabilityChannel(), eventId + ":" + remaining);
+    }
+
+    private static String holdMember(UUID reservationId, UUID userId, int quantity) {
+        return reservationId + ":" + userId + ":" + quantity;
+    }
+
+}
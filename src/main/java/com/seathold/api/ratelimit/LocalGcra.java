@@ -0,0 +1,92 @@
+package com.seathold.api.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+/**
+ * In-JVM GCRA buckets keyed by limiter key. Each bucket only stores its
+ * theoretical arrival time, so checks and updates are single atomic ops.
+ *
+ * <p>Buckets live in a cache bounded to {@code maxKeys}. A bucket untouched
+ * for {@code idleMillis}, the most any bucket can run ahead of the clock,
+ * is back to a fresh one and expires. Past the bound the least useful
+ * bucket is evicted, which at worst grants its key a new burst.
+ */
+final class LocalGcra {
+    private final Cache<String, AtomicLong> arrivals;
+
+    LocalGcra(int maxKeys, long idleMillis) {
+        this(maxKeys, idleMillis, Ticker.systemTicker());
+    }
+
+    LocalGcra(int maxKeys, long idleMillis, Ticker ticker) {
+        this.arrivals = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofMillis(Math.max(1, idleMillis)))
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * @return 0 if the request is allowed, otherwise the milliseconds until
+     *         it would be
+     */
+    long retryAfter(String key, long toleranceMillis, long nowMillis) {
+        AtomicLong arrival = arrivals.getIfPresent(key);
+        if (arrival == null) {
+            return 0;
+        }
+        return Math.max(0, Math.max(arrival.get(), nowMillis) - nowMillis - toleranceMillis);
+    }
+
+    /**
+     * Admits or rejects a request on this bucket alone, atomically.
+     *
+     * @return {@code true} if the request was admitted
+     */
+    boolean tryAcquire(String key, long intervalMillis, long toleranceMillis, long nowMillis) {
+        AtomicLong arrival = bucket(key);
+        while (true) {
+            long current = arrival.get();
+            long start = Math.max(current, nowMillis);
+            if (start - nowMillis > toleranceMillis) {
+                return false;
+            }
+            if (arrival.compareAndSet(current, start + intervalMillis)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Records a request that was admitted elsewhere.
+     */
+    void record(String key, long intervalMillis, long nowMillis) {
+        bucket(key).accumulateAndGet(nowMillis, (current, now) -> Math.max(current, now) + intervalMillis);
+    }
+
+    /**
+     * Pushes the bucket forward so it keeps rejecting locally for
+     * {@code retryAfterMillis}.
+     */
+    void block(String key, long retryAfterMillis, long toleranceMillis, long nowMillis) {
+        long until = nowMillis + retryAfterMillis + toleranceMillis;
+        bucket(key).accumulateAndGet(until, Math::max);
+    }
+
+    private AtomicLong bucket(String key) {
+        return arrivals.get(key, k -> new AtomicLong());
+    }
+
+    /**
+     * Buckets currently held, after pending expiry and eviction.
+     */
+    long size() {
+        arrivals.cleanUp();
+        return arrivals.estimatedSize();
+    }
+}
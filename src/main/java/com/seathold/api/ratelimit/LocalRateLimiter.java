@@ -0,0 +1,33 @@
+package com.seathold.api.ratelimit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * GCRA limiter kept in this JVM only, for deployments without Redis. With
+ * several nodes each one enforces the limits on its own.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "local")
+public class LocalRateLimiter implements RateLimiter {
+    private final RateLimitProperties properties;
+    private final LocalGcra local;
+
+    public LocalRateLimiter(RateLimitProperties properties) {
+        this.properties = properties;
+        this.local = new LocalGcra(properties.localMaxKeys(), properties.maxBucketLeadMillis());
+    }
+
+    @Override
+    public boolean tryAcquire(String endpoint, String subject) {
+        RateLimitProperties.Limit limit = properties.limits().get(endpoint);
+        if (limit == null) {
+            return true;
+        }
+        return local.tryAcquire(
+                endpoint + ":" + subject,
+                limit.emissionIntervalMillis(),
+                limit.burstToleranceMillis(),
+                System.currentTimeMillis());
+    }
+}
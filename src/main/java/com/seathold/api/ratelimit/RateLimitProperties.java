@@ -0,0 +1,42 @@
+package com.seathold.api.ratelimit;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.rate-limit")
+public record RateLimitProperties(
+        Map<String, Limit> limits,
+        int localMaxKeys) {
+
+    public RateLimitProperties {
+        limits = limits == null ? Map.of() : Map.copyOf(limits);
+        localMaxKeys = localMaxKeys <= 0 ? 100_000 : localMaxKeys;
+    }
+
+    /**
+     * The furthest any bucket's arrival time can run ahead of the clock: one
+     * interval past the burst tolerance of the widest limit.
+     */
+    public long maxBucketLeadMillis() {
+        return limits.values().stream()
+                .mapToLong(limit -> limit.emissionIntervalMillis() + limit.burstToleranceMillis())
+                .max()
+                .orElse(0);
+    }
+
+    /**
+     * @param perMinute sustained requests per minute
+     * @param burst     requests allowed back to back before the sustained
+     *                  rate applies
+     */
+    public record Limit(int perMinute, int burst) {
+        public long emissionIntervalMillis() {
+            return 60_000L / perMinute;
+        }
+
+        public long burstToleranceMillis() {
+            return emissionIntervalMillis() * (Math.max(burst, 1) - 1);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.seathold.api.ratelimit;
+
+import com.seathold.api.common.exception.ConflictException;
+
+/**
+ * Per-endpoint request limiter. Limits are looked up by endpoint name in
+ * {@link RateLimitProperties}; endpoints without a configured limit are
+ * never limited.
+ */
+public interface RateLimiter {
+
+    /**
+     * @return {@code true} if {@code subject} may call {@code endpoint} now
+     */
+    boolean tryAcquire(String endpoint, String subject);
+
+    default void check(String endpoint, String subject) {
+        if (!tryAcquire(endpoint, subject)) {
+            throw new ConflictException("Rate limit exceeded");
+        }
+    }
+}
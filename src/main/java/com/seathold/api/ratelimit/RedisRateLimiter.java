@@ -0,0 +1,62 @@
+package com.seathold.api.ratelimit;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.seathold.api.common.constants.RedisKeys;
+
+/**
+ * GCRA limiter shared across nodes through one atomic Redis script call.
+ * A local bucket per key sits in front of it and only tracks requests Redis
+ * admitted from this node, plus the retry-after of its rejections, so a
+ * local rejection is always one Redis would have made too.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRateLimiter implements RateLimiter {
+    private static final RedisScript<Long> GCRA_SCRIPT = RedisScript.of(
+            new ClassPathResource("redis/rate_limit.lua"), Long.class);
+
+    private final StringRedisTemplate redis;
+    private final RateLimitProperties properties;
+    private final LocalGcra local;
+
+    public RedisRateLimiter(StringRedisTemplate redis, RateLimitProperties properties) {
+        this.redis = redis;
+        this.properties = properties;
+        this.local = new LocalGcra(properties.localMaxKeys(), properties.maxBucketLeadMillis());
+    }
+
+    @Override
+    public boolean tryAcquire(String endpoint, String subject) {
+        RateLimitProperties.Limit limit = properties.limits().get(endpoint);
+        if (limit == null) {
+            return true;
+        }
+
+        String key = RedisKeys.rateLimit(endpoint, subject);
+        long interval = limit.emissionIntervalMillis();
+        long tolerance = limit.burstToleranceMillis();
+        long now = System.currentTimeMillis();
+        if (local.retryAfter(key, tolerance, now) > 0) {
+            return false;
+        }
+
+        Long retryAfter = redis.execute(
+                GCRA_SCRIPT,
+                List.of(key),
+                String.valueOf(interval),
+                String.valueOf(tolerance));
+        if (retryAfter != null && retryAfter > 0) {
+            local.block(key, retryAfter, tolerance, now);
+            return false;
+        }
+        local.record(key, interval, now);
+        return true;
+    }
+}
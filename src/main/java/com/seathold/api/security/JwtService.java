@@ -2,17 +2,31 @@ package com.seathold.api.security;
 
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import javax.crypto.SecretKey;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.seathold.api.common.timing.RequestTiming;
+import com.seathold.api.diagnostics.JwtVerificationEvent;
+import com.seathold.api.security.RoleValidator.UserInfo;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 
 import lombok.extern.slf4j.Slf4j;
@@ -20,64 +34,113 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @Slf4j
 public class JwtService {
-    @Value("${spring.application.jwt.secret}")
-    private String secretKey;
-
-    @Value("${spring.application.jwt.expiration}")
-    private Long expiration;
+    private final SecretKey signInKey;
+    private final JwtParser parser;
+    private final long expiration;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final Timer cachedVerifications;
+    private final Timer parsedVerifications;
+
+    public JwtService(
+            @Value("${spring.application.jwt.secret}") String secretKey,
+            @Value("${spring.application.jwt.expiration}") long expiration,
+            @Value("${spring.application.jwt.cache-max-size:10000}") long cacheMaxSize,
+            MeterRegistry meterRegistry) {
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parser().verifyWith(signInKey).build();
+        this.expiration = expiration;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new UntilTokenExpires())
+                .build();
+        this.cachedVerifications = meterRegistry.timer("auth.jwt.verify", "cache", "hit");
+        this.parsedVerifications = meterRegistry.timer("auth.jwt.verify", "cache", "miss");
+    }
 
     public String generateToken(UUID userId, String email, String role) {
         log.info("Generating  token for user : {} with role {} ", userId, role);
 
-        Map<String, Object> claims = new HashMap<>();
-        claims.put("userId", userId.toString());
-        claims.put("role", role);
-
         return Jwts.builder()
                 .claim("userId", userId.toString())
                 .claim("role", role)
                 .subject(email)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey())
+                .signWith(signInKey)
                 .compact();
     }
 
-    public UUID extractUserId(String token) {
-        Claims claims = extractAllClaims(token);
-        String userIdStr = claims.get("userId", String.class);
-        return UUID.fromString(userIdStr);
+    /**
+     * Verifies the token and returns the user it was issued to. Verified
+     * tokens are cached by digest until they expire, so a token is only
+     * parsed and signature-checked once.
+     *
+     * @throws JwtException if the token is malformed, forged or expired
+     */
+    public UserInfo authenticate(String token) {
+        long timed = RequestTiming.start(RequestTiming.Phase.JWT);
+        try {
+            return verify(token);
+        } finally {
+            RequestTiming.stop(RequestTiming.Phase.JWT, timed);
+        }
     }
 
-    public String extractEmail(String token) {
-        return extractAllClaims(token).getSubject();
+    private UserInfo verify(String token) {
+        JwtVerificationEvent flight = new JwtVerificationEvent();
+        flight.begin();
+        long startedAt = System.nanoTime();
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            cachedVerifications.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            flight.complete(true, "valid");
+            return cached.user();
+        }
+
+        String outcome = "invalid";
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            UserInfo user = new UserInfo(
+                    UUID.fromString(claims.get("userId", String.class)),
+                    claims.getSubject(),
+                    claims.get("role", String.class));
+            verifiedTokens.put(digest, new VerifiedToken(user, claims.getExpiration().getTime()));
+            outcome = "valid";
+            return user;
+        } finally {
+            parsedVerifications.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            flight.complete(false, outcome);
+        }
     }
 
-    public String extractUserRole(String token) {
-        Claims claims = extractAllClaims(token);
-        return claims.get("role", String.class);
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
-    private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private record VerifiedToken(UserInfo user, long expiresAtMillis) {
     }
 
-    public boolean isTokenValid(String token) {
-        try {
-            Claims claims = extractAllClaims(token);
-            return !claims.getExpiration().before(new Date());
-        } catch (Exception e) {
-            log.warn("Invalid token: {}", e.getMessage());
-            return false;
+    private static final class UntilTokenExpires implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
         }
-    }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+-- Schema as previously created by hibernate ddl-auto. Databases that already
+-- have it are baselined at this version and skip this script.
+
+create table users (
+    uuid       uuid         not null primary key,
+    first_name varchar(255) not null,
+    last_name  varchar(255) not null,
+    email      varchar(255) not null,
+    password   varchar(255) not null,
+    role       varchar(255) not null,
+    created_at timestamp(6),
+    updated_at timestamp(6)
+);
+
+create table events (
+    id             uuid         not null primary key,
+    status         varchar(20)  not null,
+    title          varchar(140) not null,
+    description    text,
+    venue          varchar(140) not null,
+    city           varchar(80)  not null,
+    starts_at      timestamp(6) not null,
+    ends_at        timestamp(6),
+    total_capacity integer      not null,
+    created_by     uuid         not null,
+    created_at     timestamp(6),
+    updated_at     timestamp(6)
+);
+
+create table reservations (
+    id         uuid        not null primary key,
+    event_id   uuid        not null,
+    user_id    uuid        not null,
+    quantity   integer     not null,
+    status     varchar(20) not null,
+    expires_at timestamp(6),
+    created_at timestamp(6),
+    updated_at timestamp(6)
+);
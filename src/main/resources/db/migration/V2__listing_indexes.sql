@@ -0,0 +1,14 @@
+-- ddl-auto created an enum check constraint that predates the EXPIRED status.
+alter table reservations drop constraint if exists reservations_status_check;
+
+-- /api/me/reservations, with and without a status filter.
+create index idx_reservations_user_status_expires on reservations (user_id, status, expires_at);
+
+-- Stale-hold sweep of the expiry reaper.
+create index idx_reservations_hold_expires on reservations (expires_at) where status = 'HOLD';
+
+-- /api/events without a city filter.
+create index idx_events_status_starts on events (status, starts_at);
+
+-- /api/events?city=..., matched case-insensitively through lower(city).
+create index idx_events_status_city_starts on events (status, lower(city), starts_at);
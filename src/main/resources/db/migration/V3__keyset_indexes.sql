@@ -0,0 +1,11 @@
+-- Keyset pagination orders by (starts_at, id) and (created_at, id); the id
+-- tiebreaker has to be in the index for the seek to stay a range scan.
+drop index if exists idx_events_status_starts;
+create index idx_events_status_starts_id on events (status, starts_at, id);
+
+drop index if exists idx_events_status_city_starts;
+create index idx_events_status_city_starts_id on events (status, lower(city), starts_at, id);
+
+drop index if exists idx_reservations_user_status_expires;
+create index idx_reservations_user_created_id on reservations (user_id, created_at, id);
+create index idx_reservations_user_status_created_id on reservations (user_id, status, created_at, id);
@@ -0,0 +1,2 @@
+-- Seat tallies of the inventory recovery, answered by an index-only scan.
+create index idx_reservations_event_status on reservations (event_id, status) include (user_id, quantity, expires_at);
@@ -0,0 +1,2 @@
+-- Incremental scans of the inventory reconciler.
+create index idx_reservations_updated_at on reservations (updated_at);
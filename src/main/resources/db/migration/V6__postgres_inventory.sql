@@ -0,0 +1,21 @@
+-- Inventory tables of the Postgres availability store. available_seats is
+-- owned by the store and deliberately not mapped on the Event entity; it
+-- stays null until the event is published or its counter is restored.
+alter table events add column available_seats integer;
+
+create table event_user_seats (
+    event_id uuid    not null,
+    user_id  uuid    not null,
+    seats    integer not null,
+    primary key (event_id, user_id)
+);
+
+create table seat_holds (
+    reservation_id uuid         not null primary key,
+    event_id       uuid         not null,
+    user_id        uuid         not null,
+    quantity       integer      not null,
+    expires_at     timestamp(6) not null
+);
+
+create index idx_seat_holds_event_expires on seat_holds (event_id, expires_at);
@@ -0,0 +1,3 @@
+-- Per-buyer purchase cap. It postdates the ddl-auto schema that V1
+-- reproduces, so databases baselined at V1 don't have it yet.
+alter table events add column if not exists max_per_user integer;
@@ -0,0 +1,13 @@
+-- Corrects a drifted seat counter, compare-and-set style: the adjustment
+-- only applies while the counter still holds the value it was measured at.
+-- KEYS[1] event available counter
+-- ARGV[1] observed seats, ARGV[2] delta, ARGV[3] event id,
+-- ARGV[4] availability channel
+-- Returns 1 when adjusted, 0 when the counter changed or is missing.
+local current = redis.call('GET', KEYS[1])
+if not current or current ~= ARGV[1] then
+    return 0
+end
+local remaining = redis.call('INCRBY', KEYS[1], tonumber(ARGV[2]))
+redis.call('PUBLISH', ARGV[4], ARGV[3] .. ':' .. remaining)
+return 1
@@ -0,0 +1,12 @@
+-- Claims a hold for confirmation: drops it from the deadline index so the
+-- expiry reaper can no longer return its seats, and deletes its hold record.
+-- KEYS[1] hold record, KEYS[2] event hold deadline index,
+-- KEYS[3] event available counter
+-- ARGV[1] deadline index member
+-- Returns 1 when claimed, 0 when the hold was already released, or -3 when
+-- the counter is missing and the index has to be rebuilt first.
+if redis.call('EXISTS', KEYS[3]) == 0 then
+    return -3
+end
+redis.call('DEL', KEYS[1])
+return redis.call('ZREM', KEYS[2], ARGV[1])
@@ -0,0 +1,40 @@
+-- Atomically takes seats for a hold, records it with a TTL and indexes its
+-- deadline for the expiry reaper. The buyer's per-event counter is checked
+-- against the event's purchase cap and incremented in the same step.
+-- KEYS[1] event available counter, KEYS[2] hold record,
+-- KEYS[3] event hold deadline index, KEYS[4] set of events with holds,
+-- KEYS[5] buyer's seat counter for the event
+-- ARGV[1] quantity, ARGV[2] hold ttl in seconds, ARGV[3] hold record value,
+-- ARGV[4] deadline index member, ARGV[5] event id,
+-- ARGV[6] max seats per buyer (0 for no cap), ARGV[7] availability channel
+-- Returns the remaining seats, -1 when there are not enough seats, -2 when
+-- the buyer would go over the purchase cap, or -3 when the counter is
+-- missing and has to be rebuilt from the database first.
+local quantity = tonumber(ARGV[1])
+local maxPerUser = tonumber(ARGV[6])
+
+local available = redis.call('GET', KEYS[1])
+if not available then
+    return -3
+end
+if tonumber(available) < quantity then
+    return -1
+end
+
+if maxPerUser > 0 then
+    local held = tonumber(redis.call('GET', KEYS[5]) or '0')
+    if held + quantity > maxPerUser then
+        return -2
+    end
+end
+
+local now = redis.call('TIME')
+local deadline = tonumber(now[1]) * 1000 + math.floor(tonumber(now[2]) / 1000) + tonumber(ARGV[2]) * 1000
+
+local remaining = redis.call('DECRBY', KEYS[1], quantity)
+redis.call('INCRBY', KEYS[5], quantity)
+redis.call('SET', KEYS[2], ARGV[3], 'EX', ARGV[2])
+redis.call('ZADD', KEYS[3], deadline, ARGV[4])
+redis.call('SADD', KEYS[4], ARGV[5])
+redis.call('PUBLISH', ARGV[7], ARGV[5] .. ':' .. remaining)
+return remaining
@@ -0,0 +1,24 @@
+-- GCRA rate limit check; stores only the theoretical arrival time.
+-- KEYS[1] limiter key
+-- ARGV[1] emission interval in ms, ARGV[2] burst tolerance in ms
+-- Returns 0 when allowed, otherwise the milliseconds until the next request
+-- would be allowed.
+local interval = tonumber(ARGV[1])
+local tolerance = tonumber(ARGV[2])
+
+local now = redis.call('TIME')
+local nowMillis = tonumber(now[1]) * 1000 + math.floor(tonumber(now[2]) / 1000)
+
+local tat = tonumber(redis.call('GET', KEYS[1]) or nowMillis)
+if tat < nowMillis then
+    tat = nowMillis
+end
+
+local retryAfter = tat - nowMillis - tolerance
+if retryAfter > 0 then
+    return retryAfter
+end
+
+local newTat = tat + interval
+redis.call('SET', KEYS[1], newTat, 'PX', newTat - nowMillis)
+return 0
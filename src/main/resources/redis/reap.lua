@@ -0,0 +1,44 @@
+-- Drains the expired holds among the given index members of one event,
+-- returns their seats with a single INCRBY and gives each buyer's seats
+-- back to their purchase cap. Members are the earliest deadlines read by the
+-- caller; each is drained only if it is still indexed and due by the server
+-- clock, so a member released or reaped since it was read is skipped.
+-- KEYS[1] event hold deadline index, KEYS[2] event available counter,
+-- KEYS[3] set of events with holds, KEYS[4..] seat counter of the buyer of
+-- each member in ARGV[3..]
+-- ARGV[1] event id, ARGV[2] availability channel, ARGV[3..] index members
+-- Returns the drained index members.
+local now = redis.call('TIME')
+local nowMillis = tonumber(now[1]) * 1000 + math.floor(tonumber(now[2]) / 1000)
+
+local due = {}
+local seats = 0
+for i = 3, #ARGV do
+    local member = ARGV[i]
+    local deadline = redis.call('ZSCORE', KEYS[1], member)
+    if deadline and tonumber(deadline) <= nowMillis then
+        redis.call('ZREM', KEYS[1], member)
+        due[#due + 1] = member
+        local quantity = tonumber(string.match(member, ':(%d+)$'))
+        seats = seats + quantity
+        -- Buyer counters are given back even when the event counter is
+        -- missing: a rebuild only resets the counters of buyers that still
+        -- hold seats.
+        local buyer = KEYS[i + 1]
+        if redis.call('DECRBY', buyer, quantity) <= 0 then
+            redis.call('DEL', buyer)
+        end
+    end
+end
+
+-- A missing event counter is rebuilt from the database, where these holds
+-- have expired, so there is nothing to give back to it.
+if seats > 0 and redis.call('EXISTS', KEYS[2]) == 1 then
+    local remaining = redis.call('INCRBY', KEYS[2], seats)
+    redis.call('PUBLISH', ARGV[2], ARGV[1] .. ':' .. remaining)
+end
+
+if redis.call('ZCARD', KEYS[1]) == 0 then
+    redis.call('SREM', KEYS[3], ARGV[1])
+end
+return due
@@ -0,0 +1,26 @@
+-- Returns the seats of a hold to the event and to the buyer's purchase cap,
+-- and drops its hold record. Seats only come back if the hold is still
+-- indexed, so a hold already drained by the expiry reaper is never returned
+-- twice. The buyer's counter is always given the seats back, since a rebuild
+-- only resets the counters of buyers that still hold seats; a counter that
+-- drops to zero is removed rather than left negative. Nothing is returned to
+-- a missing event counter: its rebuild from the database no longer counts
+-- the hold.
+-- KEYS[1] event available counter, KEYS[2] hold record,
+-- KEYS[3] event hold deadline index, KEYS[4] buyer's seat counter for the event
+-- ARGV[1] quantity, ARGV[2] deadline index member, ARGV[3] event id,
+-- ARGV[4] availability channel
+-- Returns the remaining seats, or -1 when the hold was already released.
+redis.call('DEL', KEYS[2])
+if redis.call('ZREM', KEYS[3], ARGV[2]) == 0 then
+    return -1
+end
+if redis.call('DECRBY', KEYS[4], tonumber(ARGV[1])) <= 0 then
+    redis.call('DEL', KEYS[4])
+end
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+local remaining = redis.call('INCRBY', KEYS[1], tonumber(ARGV[1]))
+redis.call('PUBLISH', ARGV[4], ARGV[3] .. ':' .. remaining)
+return remaining
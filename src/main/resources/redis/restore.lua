@@ -0,0 +1,32 @@
+-- Restores a missing seat counter from database totals, together with the
+-- buyers' seat counters and the deadline index of the holds still live.
+-- Does nothing when the counter exists, so racing rebuilds are harmless.
+-- KEYS[1] event available counter, KEYS[2] event hold deadline index,
+-- KEYS[3] set of events with holds, KEYS[4..] buyer seat counters
+-- ARGV[1] available seats, ARGV[2] event id, ARGV[3] availability channel,
+-- ARGV[4..] seats of each buyer in KEYS[4..], followed by deadline and
+-- member pairs of the live holds
+-- Returns 1 when the counter was restored, 0 when it already existed.
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+redis.call('SET', KEYS[1], ARGV[1])
+
+local buyers = #KEYS - 3
+for i = 1, buyers do
+    redis.call('SET', KEYS[3 + i], ARGV[3 + i])
+end
+
+-- Holds released or reaped while the counter was missing may still be
+-- indexed; the index is rebuilt to match the live holds counted above.
+redis.call('DEL', KEYS[2])
+local first = 4 + buyers
+for i = first, #ARGV, 2 do
+    redis.call('ZADD', KEYS[2], ARGV[i], ARGV[i + 1])
+end
+if #ARGV >= first then
+    redis.call('SADD', KEYS[3], ARGV[2])
+end
+
+redis.call('PUBLISH', ARGV[3], ARGV[2] .. ':' .. ARGV[1])
+return 1
@@ -0,0 +1,40 @@
+package com.seathold.api.domain.reservation;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Random latency and failures injected between the steps of a reservation.
+ */
+final class Faults {
+    private final long maxLatencyNanos;
+    private final double failureRate;
+
+    Faults(long maxLatencyMicros, double failureRate) {
+        this.maxLatencyNanos = TimeUnit.MICROSECONDS.toNanos(maxLatencyMicros);
+        this.failureRate = failureRate;
+    }
+
+    void pause() {
+        if (maxLatencyNanos > 0) {
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(maxLatencyNanos));
+        }
+    }
+
+    /**
+     * Pauses, then fails at the configured rate.
+     */
+    void maybeFail(String step) {
+        pause();
+        if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+            throw new InjectedFailure(step);
+        }
+    }
+
+    static final class InjectedFailure extends RuntimeException {
+        InjectedFailure(String step) {
+            super("Injected failure: " + step, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.seathold.api.domain.reservation;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import com.seathold.api.inventory.AvailabilityStore;
+import com.seathold.api.inventory.InventoryState;
+
+/**
+ * Store that is slow and sometimes fails. Holds may also be applied and then
+ * reported as failed, like a Redis reply lost to a timeout. Claims only
+ * fail before they are applied; see {@link HoldStressTest}.
+ */
+final class FaultyAvailabilityStore implements AvailabilityStore {
+    private final AvailabilityStore delegate;
+    private final Faults faults;
+
+    FaultyAvailabilityStore(AvailabilityStore delegate, Faults faults) {
+        this.delegate = delegate;
+        this.faults = faults;
+    }
+
+    @Override
+    public void init(UUID eventId, int totalCapacity) {
+        delegate.init(eventId, totalCapacity);
+    }
+
+    @Override
+    public Integer getAvailable(UUID eventId) {
+        return delegate.getAvailable(eventId);
+    }
+
+    @Override
+    public Map<UUID, Integer> getAvailable(List<UUID> eventIds) {
+        return delegate.getAvailable(eventIds);
+    }
+
+    @Override
+    public long hold(UUID eventId, UUID reservationId, UUID userId, int quantity, Integer maxPerUser,
+            Duration ttl) {
+        faults.maybeFail("hold");
+        long result = delegate.hold(eventId, reservationId, userId, quantity, maxPerUser, ttl);
+        faults.maybeFail("hold reply");
+        return result;
+    }
+
+    @Override
+    public long release(UUID eventId, UUID reservationId, UUID userId, int quantity) {
+        faults.maybeFail("release");
+        return delegate.release(eventId, reservationId, userId, quantity);
+    }
+
+    @Override
+    public long claimHold(UUID eventId, UUID reservationId, UUID userId, int quantity) {
+        faults.maybeFail("claim");
+        return delegate.claimHold(eventId, reservationId, userId, quantity);
+    }
+
+    @Override
+    public Set<UUID> eventsWithHolds() {
+        return delegate.eventsWithHolds();
+    }
+
+    @Override
+    public List<UUID> reapExpired(UUID eventId, int batchSize) {
+        faults.pause();
+        return delegate.reapExpired(eventId, batchSize);
+    }
+
+    @Override
+    public boolean adjust(UUID eventId, long observed, long delta) {
+        return delegate.adjust(eventId, observed, delta);
+    }
+
+    @Override
+    public int restore(List<InventoryState> states) {
+        return delegate.restore(states);
+    }
+}
@@ -0,0 +1,153 @@
+package com.seathold.api.domain.reservation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.seathold.api.common.exception.ConflictException;
+import com.seathold.api.common.transaction.NoOpTransactionManager;
+import com.seathold.api.domain.event.EventService;
+import com.seathold.api.domain.event.EventSnapshot;
+import com.seathold.api.domain.event.EventStatus;
+import com.seathold.api.inventory.InMemoryAvailabilityStore;
+import com.seathold.api.ratelimit.LocalRateLimiter;
+import com.seathold.api.ratelimit.RateLimitProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Hundreds of buyers hold, confirm, cancel and abandon seats of one event
+ * while the reaper expires holds, with latency and failures injected into
+ * the store and the reservations table. Each round checks that the counter
+ * never leaves {@code [0, capacity]} and, once every hold has expired, that
+ * it matches the confirmed seats in the table.
+ *
+ * <p>Failures are only injected where the hot path recovers on its own, at
+ * the latest when the hold expires. A claim lost after it was applied, or a
+ * confirm that fails to commit after its claim, leaves seats taken that the
+ * table doesn't account for; the inventory reconciler corrects that drift.
+ */
+class HoldStressTest {
+	private static final int ROUNDS = 12;
+	private static final int HOLD_SECONDS = 1;
+
+	@Test
+	@Timeout(60)
+	void countersMatchTheTableAfterRandomizedRounds() throws Exception {
+		long seed = System.nanoTime();
+		for (int round = 0; round < ROUNDS; round++) {
+			runRound(seed + round);
+		}
+	}
+
+	private void runRound(long seed) throws Exception {
+		Random random = new Random(seed);
+		int capacity = 20 + random.nextInt(300);
+		Integer maxPerUser = random.nextBoolean() ? null : 1 + random.nextInt(4);
+		int buyers = 200 + random.nextInt(200);
+		int opsPerBuyer = 3 + random.nextInt(6);
+		Faults faults = new Faults(200, 0.02 + random.nextDouble() * 0.08);
+		String round = "seed=" + seed + ", capacity=" + capacity + ", maxPerUser=" + maxPerUser;
+
+		UUID eventId = UUID.randomUUID();
+		InMemoryAvailabilityStore counters = new InMemoryAvailabilityStore(10, 256);
+		counters.init(eventId, capacity);
+		FaultyAvailabilityStore store = new FaultyAvailabilityStore(counters, faults);
+		InMemoryReservationTable table = new InMemoryReservationTable(() -> faults.maybeFail("insert"), faults::pause);
+		ReservationService service = reservationService(eventId, capacity, maxPerUser, store, table);
+		HoldExpiryReaper reaper = new HoldExpiryReaper(table.repository(), store, new SimpleMeterRegistry(), 50, 0);
+
+		AtomicReference<String> violation = new AtomicReference<>();
+		try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+			Future<?> watchdog = threads.submit(() -> {
+				while (!Thread.currentThread().isInterrupted()) {
+					int available = counters.getAvailable(eventId);
+					if (available < 0 || available > capacity) {
+						violation.compareAndSet(null, "available=" + available);
+					}
+					reaper.reap();
+					TimeUnit.MILLISECONDS.sleep(5);
+				}
+				return null;
+			});
+
+			List<Future<?>> running = new ArrayList<>(buyers);
+			for (int i = 0; i < buyers; i++) {
+				running.add(threads.submit(() -> buy(service, eventId, opsPerBuyer, violation)));
+			}
+			for (Future<?> buyer : running) {
+				buyer.get();
+			}
+
+			// Let every hold still in the store run past its deadline.
+			TimeUnit.MILLISECONDS.sleep(TimeUnit.SECONDS.toMillis(HOLD_SECONDS) + 100);
+			watchdog.cancel(true);
+		}
+		reaper.reap();
+
+		assertThat(violation.get()).as(round).isNull();
+		assertThat(table.count(ReservationStatus.HOLD)).as(round).isZero();
+		long confirmed = table.takenSeats(LocalDateTime.now());
+		assertThat(confirmed).as(round).isLessThanOrEqualTo(capacity);
+		assertThat(counters.getAvailable(eventId)).as(round).isEqualTo((int) (capacity - confirmed));
+	}
+
+	private void buy(ReservationService service, UUID eventId, int ops, AtomicReference<String> violation) {
+		UUID userId = UUID.randomUUID();
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (int i = 0; i < ops; i++) {
+			try {
+				Reservation hold = service.createHold(eventId, userId, 1 + random.nextInt(3));
+				int action = random.nextInt(100);
+				if (action < 50) {
+					service.confirm(hold.getId(), userId);
+				} else if (action < 80) {
+					service.cancel(hold.getId(), userId);
+				} else if (action < 83) {
+					// Confirm after the hold has expired.
+					TimeUnit.MILLISECONDS.sleep(TimeUnit.SECONDS.toMillis(HOLD_SECONDS) + 50);
+					service.confirm(hold.getId(), userId);
+				}
+				// Otherwise abandon the hold to the reaper.
+			} catch (ConflictException | Faults.InjectedFailure expected) {
+				// Sold out, over the cap, expired, or an injected failure.
+			} catch (Exception e) {
+				violation.compareAndSet(null, "unexpected " + e);
+			}
+		}
+	}
+
+	private static ReservationService reservationService(UUID eventId, int capacity, Integer maxPerUser,
+			FaultyAvailabilityStore store, InMemoryReservationTable table) {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		EventSnapshot event = new EventSnapshot(eventId, EventStatus.PUBLISHED, "Stress", null, "Arena", "Lima",
+				LocalDateTime.now().plusDays(30), null, capacity, maxPerUser);
+		EventService eventService = new EventService(null, store, null, null, meterRegistry) {
+			@Override
+			public EventSnapshot findSnapshot(UUID id) {
+				return event;
+			}
+		};
+		TransactionTemplate transactions = new TransactionTemplate(new NoOpTransactionManager());
+		HoldWriteBehind writeBehind = new HoldWriteBehind(null, transactions, store, false, 1, 1, 1, 1);
+		return new ReservationService(table.repository(), eventService, store,
+				new LocalRateLimiter(new RateLimitProperties(Map.of(), 0)), transactions, writeBehind, null,
+				meterRegistry, HOLD_SECONDS);
+	}
+
+}
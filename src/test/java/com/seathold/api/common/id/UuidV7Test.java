@@ -0,0 +1,38 @@
+package com.seathold.api.common.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class UuidV7Test {
+
+	@Test
+	void setsVersionAndVariant() {
+		UUID id = UuidV7.next();
+
+		assertThat(id.version()).isEqualTo(7);
+		assertThat(id.variant()).isEqualTo(2);
+	}
+
+	@Test
+	void embedsCurrentUnixMillis() {
+		long before = System.currentTimeMillis();
+		UUID id = UuidV7.next();
+
+		assertThat(id.getMostSignificantBits() >>> 16).isGreaterThanOrEqualTo(before);
+	}
+
+	@Test
+	void isStrictlyIncreasingWithinTheSameMillisecond() {
+		UUID previous = UuidV7.next();
+		for (int i = 0; i < 100_000; i++) {
+			UUID next = UuidV7.next();
+			assertThat(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()))
+					.isPositive();
+			previous = next;
+		}
+	}
+
+}
@@ -0,0 +1,72 @@
+package com.seathold.api.common.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+class RequestTimingFilterTest {
+
+	private final TimedJsonHttpMessageConverter converter = new TimedJsonHttpMessageConverter(new ObjectMapper());
+
+	@AfterEach
+	void disable() {
+		RequestTiming.setEnabled(false);
+	}
+
+	@Test
+	void jsonResponseCarriesPhasesAndSerializationTime() throws Exception {
+		RequestTimingFilter filter = new RequestTimingFilter(true, 60_000);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(new MockHttpServletRequest("GET", "/api/events"), response, (req, res) -> {
+			long startedAt = RequestTiming.start(RequestTiming.Phase.DB);
+			// Nested calls of the same phase count once.
+			RequestTiming.stop(RequestTiming.Phase.DB, RequestTiming.start(RequestTiming.Phase.DB));
+			RequestTiming.stop(RequestTiming.Phase.DB, startedAt);
+			converter.write(Map.of("ok", true), MediaType.APPLICATION_JSON,
+					new ServletServerHttpResponse((HttpServletResponse) res));
+		});
+
+		assertThat(response.getHeader("Server-Timing"))
+				.containsPattern("db;dur=[0-9.]+;desc=\"1\"")
+				.contains("serialize;dur=", "app;dur=")
+				.doesNotContain("redis");
+		assertThat(response.getContentAsString()).isEqualTo("{\"ok\":true}");
+	}
+
+	@Test
+	void emptyResponseGetsHeaderFromFilter() throws Exception {
+		RequestTimingFilter filter = new RequestTimingFilter(true, 60_000);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(new MockHttpServletRequest("POST", "/api/x"), response, (req, res) -> {
+		});
+
+		assertThat(response.getHeader("Server-Timing")).startsWith("app;dur=");
+	}
+
+	@Test
+	void disabledTimingIsInvisible() throws Exception {
+		RequestTimingFilter filter = new RequestTimingFilter(false, 0);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(new MockHttpServletRequest("GET", "/api/events"), response, (req, res) -> {
+			assertThat(RequestTiming.start(RequestTiming.Phase.REDIS)).isZero();
+			assertThat(RequestTiming.current()).isNull();
+		});
+
+		assertThat(response.getHeader("Server-Timing")).isNull();
+	}
+
+}
@@ -0,0 +1,72 @@
+package com.seathold.api.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class ContinuousRecordingTest {
+
+	@TempDir
+	Path dumpDir;
+
+	private ContinuousRecording recording;
+
+	@AfterEach
+	void stop() {
+		if (recording != null) {
+			recording.stop();
+		}
+	}
+
+	@Test
+	void dumpsOnceWhenHoldsBreachTheSlo() throws Exception {
+		recording = new ContinuousRecording("default", 60, 50, dumpDir.toString(), 300, 0, 3, 60);
+		recording.start();
+		assertThat(recording.isRunning()).isTrue();
+
+		UUID eventId = UUID.randomUUID();
+		for (int i = 0; i < 3; i++) {
+			HoldAdmissionEvent hold = new HoldAdmissionEvent();
+			hold.begin();
+			TimeUnit.MILLISECONDS.sleep(2);
+			hold.complete(eventId, UUID.randomUUID(), 2, "success");
+		}
+
+		Path dump = awaitDump();
+		assertThat(dump.getFileName().toString()).endsWith("-slo.jfr");
+		List<RecordedEvent> holds = RecordingFile.readAllEvents(dump).stream()
+				.filter(e -> e.getEventType().getName().equals(HoldAdmissionEvent.NAME))
+				.toList();
+		assertThat(holds).isNotEmpty()
+				.allSatisfy(e -> assertThat(e.getString("eventId")).isEqualTo(eventId.toString()));
+
+		// Within the cooldown a manual dump is skipped.
+		assertThat(recording.dump("manual")).isNull();
+	}
+
+	private Path awaitDump() throws Exception {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+		while (System.nanoTime() < deadline) {
+			try (Stream<Path> files = Files.list(dumpDir)) {
+				List<Path> dumps = files.filter(f -> f.toString().endsWith(".jfr")).toList();
+				if (!dumps.isEmpty()) {
+					return dumps.getFirst();
+				}
+			}
+			TimeUnit.MILLISECONDS.sleep(100);
+		}
+		throw new AssertionError("No flight recording was dumped");
+	}
+}
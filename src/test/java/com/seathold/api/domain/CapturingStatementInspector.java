@@ -0,0 +1,25 @@
+package com.seathold.api.domain;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records the SQL Hibernate sends so tests can EXPLAIN it.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+	private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+	@Override
+	public String inspect(String sql) {
+		STATEMENTS.add(sql);
+		return sql;
+	}
+
+	static List<String> drain() {
+		List<String> statements = List.copyOf(STATEMENTS);
+		STATEMENTS.clear();
+		return statements;
+	}
+}
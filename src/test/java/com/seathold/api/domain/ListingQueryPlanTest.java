@@ -0,0 +1,142 @@
+package com.seathold.api.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.seathold.api.common.pagination.KeysetCursor;
+import com.seathold.api.domain.event.Event;
+import com.seathold.api.domain.event.EventRepository;
+import com.seathold.api.domain.event.EventStatus;
+import com.seathold.api.domain.reservation.Reservation;
+import com.seathold.api.domain.reservation.ReservationRepository;
+import com.seathold.api.domain.reservation.ReservationStatus;
+
+/**
+ * Checks that every listing query can be answered from an index. Runs the
+ * migrations against the Postgres 16+ database in
+ * {@code SEATHOLD_TEST_DB_URL}, disables sequential scans and EXPLAINs the
+ * generic plan of each statement Hibernate issues.
+ */
+@DataJpaTest(properties = {
+		"spring.datasource.url=${SEATHOLD_TEST_DB_URL}",
+		"spring.jpa.hibernate.ddl-auto=validate",
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector="
+				+ "com.seathold.api.domain.CapturingStatementInspector" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "SEATHOLD_TEST_DB_URL", matches = ".+")
+class ListingQueryPlanTest {
+	private static final Limit PAGE = Limit.of(21);
+	private static final KeysetCursor FIRST = KeysetCursor.first();
+	private static final KeysetCursor LAST = KeysetCursor.last();
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final UUID userId = UUID.randomUUID();
+	private final LocalDateTime from = LocalDateTime.now().plusDays(1);
+	private final LocalDateTime to = from.plusDays(30);
+
+	@BeforeEach
+	void seed() {
+		for (int i = 0; i < 50; i++) {
+			Event event = eventRepository.save(Event.builder()
+					.status(i % 2 == 0 ? EventStatus.PUBLISHED : EventStatus.DRAFT)
+					.title("Event " + i)
+					.venue("Venue")
+					.city(i % 3 == 0 ? "Monterrey" : "Hermosillo")
+					.startsAt(from.plusDays(i))
+					.totalCapacity(100)
+					.createdBy(userId)
+					.build());
+			reservationRepository.save(Reservation.builder()
+					.id(UUID.randomUUID())
+					.eventId(event.getId())
+					.userId(i % 5 == 0 ? userId : UUID.randomUUID())
+					.quantity(1)
+					.status(ReservationStatus.HOLD)
+					.expiresAt(LocalDateTime.now().plusMinutes(5))
+					.build());
+		}
+		eventRepository.flush();
+		reservationRepository.flush();
+		jdbcTemplate.execute("set local enable_seqscan = off");
+		CapturingStatementInspector.drain();
+	}
+
+	@Test
+	void publishedEventListingUsesIndex() {
+		eventRepository.findKeysetByStatus(EventStatus.PUBLISHED, FIRST.at(), FIRST.id(), PAGE);
+		assertUsesIndexes(CapturingStatementInspector.drain());
+	}
+
+	@Test
+	void cityEventListingUsesIndex() {
+		eventRepository.findKeysetByStatusAndCity(EventStatus.PUBLISHED, "monterrey", FIRST.at(), FIRST.id(), PAGE);
+		assertUsesIndexes(CapturingStatementInspector.drain());
+	}
+
+	@Test
+	void dateRangeEventListingUsesIndex() {
+		eventRepository.findKeysetByStatusAndStartsAtBefore(EventStatus.PUBLISHED, to, from, FIRST.id(), PAGE);
+		assertUsesIndexes(CapturingStatementInspector.drain());
+	}
+
+	@Test
+	void cityAndDateRangeEventListingUsesIndex() {
+		eventRepository.findKeysetByStatusAndCityAndStartsAtBefore(
+				EventStatus.PUBLISHED, "Monterrey", to, from, FIRST.id(), PAGE);
+		assertUsesIndexes(CapturingStatementInspector.drain());
+	}
+
+	@Test
+	void userReservationListingUsesIndex() {
+		reservationRepository.findKeysetByUserId(userId, LAST.at(), LAST.id(), PAGE);
+		assertUsesIndexes(CapturingStatementInspector.drain());
+	}
+
+	@Test
+	void userReservationStatusListingUsesIndex() {
+		reservationRepository.findKeysetByUserIdAndStatus(userId, ReservationStatus.HOLD, LAST.at(), LAST.id(), PAGE);
+		assertUsesIndexes(CapturingStatementInspector.drain());
+	}
+
+	private void assertUsesIndexes(List<String> statements) {
+		assertThat(statements).isNotEmpty();
+		for (String sql : statements) {
+			String plan = String.join("\n", jdbcTemplate.queryForList(
+					"explain (generic_plan) " + numberPlaceholders(sql), String.class));
+			assertThat(plan).as(sql).doesNotContain("Seq Scan").contains("Index");
+		}
+	}
+
+	private static String numberPlaceholders(String sql) {
+		StringBuilder numbered = new StringBuilder(sql.length() + 16);
+		int parameter = 0;
+		for (char c : sql.toCharArray()) {
+			if (c == '?') {
+				numbered.append('$').append(++parameter);
+			} else {
+				numbered.append(c);
+			}
+		}
+		return numbered.toString();
+	}
+}
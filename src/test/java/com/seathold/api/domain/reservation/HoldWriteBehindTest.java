@@ -0,0 +1,127 @@
+package com.seathold.api.domain.reservation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.seathold.api.common.transaction.NoOpTransactionManager;
+
+class HoldWriteBehindTest {
+
+	private final Set<UUID> inserted = ConcurrentHashMap.newKeySet();
+	private final HoldWriteBehind writeBehind = new HoldWriteBehind(new RecordingJdbcTemplate(),
+			new TransactionTemplate(new NoOpTransactionManager()), null, true, 1000, 2, 1000, 1);
+
+	@AfterEach
+	void stop() {
+		writeBehind.stop();
+	}
+
+	@Test
+	void holdDeepInTheQueueIsPersistedOnDemand() {
+		writeBehind.start();
+		List<Reservation> holds = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			Reservation hold = hold();
+			assertThat(writeBehind.offer(hold)).isTrue();
+			holds.add(hold);
+		}
+
+		UUID last = holds.getLast().getId();
+		writeBehind.ensurePersisted(last);
+
+		assertThat(inserted).contains(last);
+	}
+
+	@Test
+	void persistQueuedWritesEveryHoldOfferedSoFar() {
+		writeBehind.start();
+		List<UUID> ids = new ArrayList<>();
+		for (int i = 0; i < 25; i++) {
+			Reservation hold = hold();
+			writeBehind.offer(hold);
+			ids.add(hold.getId());
+		}
+
+		writeBehind.persistQueued();
+
+		assertThat(inserted).containsAll(ids);
+	}
+
+	@Test
+	void stopWritesEverythingQueued() {
+		writeBehind.start();
+		List<UUID> ids = new ArrayList<>();
+		for (int i = 0; i < 25; i++) {
+			Reservation hold = hold();
+			writeBehind.offer(hold);
+			ids.add(hold.getId());
+		}
+
+		writeBehind.stop();
+
+		assertThat(inserted).containsExactlyInAnyOrderElementsOf(ids);
+	}
+
+	@Test
+	void holdAcceptedWhileStoppingIsNeverLost() throws Exception {
+		writeBehind.start();
+		Set<UUID> accepted = ConcurrentHashMap.newKeySet();
+		List<Thread> offerers = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			offerers.add(Thread.ofVirtual().start(() -> {
+				Reservation hold = hold();
+				while (writeBehind.offer(hold)) {
+					accepted.add(hold.getId());
+					hold = hold();
+				}
+			}));
+		}
+
+		Thread.sleep(20);
+		writeBehind.stop();
+		for (Thread offerer : offerers) {
+			offerer.join();
+		}
+
+		assertThat(accepted).isNotEmpty();
+		assertThat(inserted).containsAll(accepted);
+	}
+
+	private static Reservation hold() {
+		LocalDateTime now = LocalDateTime.now();
+		return Reservation.builder()
+				.id(UUID.randomUUID())
+				.eventId(UUID.randomUUID())
+				.userId(UUID.randomUUID())
+				.quantity(1)
+				.status(ReservationStatus.HOLD)
+				.expiresAt(now.plusMinutes(10))
+				.createdAt(now)
+				.updatedAt(now)
+				.build();
+	}
+
+	private class RecordingJdbcTemplate extends JdbcTemplate {
+		@Override
+		public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+				ParameterizedPreparedStatementSetter<T> pss) {
+			for (T row : batchArgs) {
+				inserted.add(((Reservation) row).getId());
+			}
+			return new int[0][];
+		}
+	}
+}
@@ -0,0 +1,129 @@
+package com.seathold.api.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class InMemoryAvailabilityStoreTest {
+
+	private static final Duration TTL = Duration.ofMinutes(10);
+
+	private final AtomicLong now = new AtomicLong(1_000_000);
+	private final InMemoryAvailabilityStore store = new InMemoryAvailabilityStore(100, 64, now::get);
+	private final UUID eventId = UUID.randomUUID();
+
+	@Test
+	void holdTakesSeatsAndEnforcesCap() {
+		store.init(eventId, 10);
+		UUID userId = UUID.randomUUID();
+
+		assertThat(store.hold(eventId, UUID.randomUUID(), userId, 3, 4, TTL)).isEqualTo(7);
+		assertThat(store.hold(eventId, UUID.randomUUID(), userId, 2, 4, TTL))
+				.isEqualTo(AvailabilityStore.USER_LIMIT_EXCEEDED);
+		assertThat(store.hold(eventId, UUID.randomUUID(), UUID.randomUUID(), 8, null, TTL))
+				.isEqualTo(AvailabilityStore.NOT_ENOUGH_SEATS);
+		assertThat(store.getAvailable(eventId)).isEqualTo(7);
+	}
+
+	@Test
+	void missingCounterIsReported() {
+		assertThat(store.hold(eventId, UUID.randomUUID(), UUID.randomUUID(), 1, null, TTL))
+				.isEqualTo(AvailabilityStore.COUNTER_MISSING);
+		assertThat(store.claimHold(eventId, UUID.randomUUID(), UUID.randomUUID(), 1))
+				.isEqualTo(AvailabilityStore.COUNTER_MISSING);
+	}
+
+	@Test
+	void holdIsReleasedOrClaimedOnlyOnce() {
+		store.init(eventId, 5);
+		UUID userId = UUID.randomUUID();
+		UUID released = UUID.randomUUID();
+		UUID claimed = UUID.randomUUID();
+		store.hold(eventId, released, userId, 2, 2, TTL);
+
+		assertThat(store.release(eventId, released, userId, 2)).isEqualTo(5);
+		assertThat(store.release(eventId, released, userId, 2)).isEqualTo(AvailabilityStore.ALREADY_RELEASED);
+
+		store.hold(eventId, claimed, userId, 2, 2, TTL);
+		assertThat(store.claimHold(eventId, claimed, userId, 2)).isEqualTo(AvailabilityStore.CLAIMED);
+		assertThat(store.release(eventId, claimed, userId, 2)).isEqualTo(AvailabilityStore.ALREADY_RELEASED);
+		assertThat(store.getAvailable(eventId)).isEqualTo(3);
+	}
+
+	@Test
+	void reapsExpiredHoldsOnce() {
+		store.init(eventId, 10);
+		UUID userId = UUID.randomUUID();
+		UUID shortHold = UUID.randomUUID();
+		UUID longHold = UUID.randomUUID();
+		store.hold(eventId, shortHold, userId, 2, 4, Duration.ofSeconds(1));
+		// Longer than one turn of the wheel (64 x 100 ms).
+		store.hold(eventId, longHold, userId, 2, 4, Duration.ofSeconds(30));
+
+		assertThat(store.reapExpired(eventId, 10)).isEmpty();
+
+		now.addAndGet(1_500);
+		assertThat(store.eventsWithHolds()).containsExactly(eventId);
+		assertThat(store.reapExpired(eventId, 10)).containsExactly(shortHold);
+		assertThat(store.reapExpired(eventId, 10)).isEmpty();
+		assertThat(store.getAvailable(eventId)).isEqualTo(8);
+
+		now.addAndGet(30_000);
+		assertThat(store.reapExpired(eventId, 10)).containsExactly(longHold);
+		assertThat(store.getAvailable(eventId)).isEqualTo(10);
+		assertThat(store.hold(eventId, UUID.randomUUID(), userId, 4, 4, TTL)).isEqualTo(6);
+	}
+
+	@Test
+	void restoreOnlyFillsMissingCounters() {
+		store.init(eventId, 10);
+		UUID lostEvent = UUID.randomUUID();
+		UUID userId = UUID.randomUUID();
+		UUID reservationId = UUID.randomUUID();
+		InventoryState lost = new InventoryState(lostEvent, 4, Map.of(userId, 2L),
+				List.of(new InventoryState.Hold(reservationId, userId, 2, now.get() + 1_000)));
+
+		assertThat(store.restore(List.of(new InventoryState(eventId, 1, Map.of(), List.of()), lost)))
+				.isEqualTo(1);
+		assertThat(store.getAvailable(eventId)).isEqualTo(10);
+		assertThat(store.hold(lostEvent, UUID.randomUUID(), userId, 1, 2, TTL))
+				.isEqualTo(AvailabilityStore.USER_LIMIT_EXCEEDED);
+
+		now.addAndGet(2_000);
+		assertThat(store.reapExpired(lostEvent, 10)).containsExactly(reservationId);
+		assertThat(store.getAvailable(lostEvent)).isEqualTo(6);
+	}
+
+	@Test
+	void concurrentHoldsNeverOversell() throws Exception {
+		store.init(eventId, 100);
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		List<Future<Long>> results = new ArrayList<>();
+		for (int i = 0; i < 1_000; i++) {
+			results.add(pool.submit(() -> store.hold(eventId, UUID.randomUUID(), UUID.randomUUID(), 1, 1, TTL)));
+		}
+		int held = 0;
+		for (Future<Long> result : results) {
+			if (result.get() >= 0) {
+				held++;
+			}
+		}
+		pool.shutdown();
+		pool.awaitTermination(10, TimeUnit.SECONDS);
+
+		assertThat(held).isEqualTo(100);
+		assertThat(store.getAvailable(eventId)).isZero();
+	}
+
+}
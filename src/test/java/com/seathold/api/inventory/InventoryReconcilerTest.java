@@ -0,0 +1,179 @@
+package com.seathold.api.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.seathold.api.domain.event.EventCapacity;
+import com.seathold.api.domain.event.EventRepository;
+import com.seathold.api.domain.reservation.EventSeatTotals;
+import com.seathold.api.domain.reservation.ReservationRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class InventoryReconcilerTest {
+
+	private static final int CAPACITY = 10;
+
+	private final UUID eventId = UUID.randomUUID();
+	private final Map<UUID, EventCapacity> published = new HashMap<>();
+	private final Map<UUID, EventSeatTotals> totals = new HashMap<>();
+	private final Set<UUID> changed = new HashSet<>();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void driftIsReportedOnlyAfterTwoMatchingObservations() {
+		AvailabilityStore store = drifted(new InMemoryAvailabilityStore(100, 64));
+		InventoryReconciler reconciler = reconciler(store, false);
+
+		reconciler.reconcile();
+		assertThat(driftedEvents()).isZero();
+
+		reconciler.reconcile();
+		assertThat(driftedEvents()).isEqualTo(1);
+		assertThat(meterRegistry.get("inventory.drift.seats").gauge().value()).isEqualTo(3);
+		assertThat(store.getAvailable(eventId)).isEqualTo(CAPACITY);
+	}
+
+	@Test
+	void driftThatMovesIsNotStable() {
+		AvailabilityStore store = drifted(new InMemoryAvailabilityStore(100, 64));
+		InventoryReconciler reconciler = reconciler(store, true);
+
+		reconciler.reconcile();
+		store.hold(eventId, UUID.randomUUID(), UUID.randomUUID(), 1, null, Duration.ofMinutes(5));
+		reconciler.reconcile();
+
+		assertThat(driftedEvents()).isZero();
+		assertThat(store.getAvailable(eventId)).isEqualTo(CAPACITY - 1);
+	}
+
+	@Test
+	void eventWithOverdueHoldsIsSkipped() {
+		AvailabilityStore store = drifted(new InMemoryAvailabilityStore(100, 64));
+		totals.put(eventId, new EventSeatTotals(eventId, 3, 1));
+		InventoryReconciler reconciler = reconciler(store, true);
+
+		reconciler.reconcile();
+		reconciler.reconcile();
+
+		assertThat(driftedEvents()).isZero();
+		assertThat(store.getAvailable(eventId)).isEqualTo(CAPACITY);
+	}
+
+	@Test
+	void suspectNoLongerPublishedIsDropped() {
+		AvailabilityStore store = drifted(new InMemoryAvailabilityStore(100, 64));
+		InventoryReconciler reconciler = reconciler(store, false);
+		reconciler.reconcile();
+		reconciler.reconcile();
+		assertThat(driftedEvents()).isEqualTo(1);
+
+		published.remove(eventId);
+		reconciler.reconcile();
+
+		assertThat(driftedEvents()).isZero();
+	}
+
+	@Test
+	void stableDriftIsCorrected() {
+		AvailabilityStore store = drifted(new InMemoryAvailabilityStore(100, 64));
+		InventoryReconciler reconciler = reconciler(store, true);
+
+		reconciler.reconcile();
+		reconciler.reconcile();
+
+		assertThat(store.getAvailable(eventId)).isEqualTo(CAPACITY - 3);
+		assertThat(meterRegistry.get("inventory.drift.corrections").counter().count()).isEqualTo(1);
+		assertThat(driftedEvents()).isZero();
+	}
+
+	@Test
+	void correctionLosesToAConcurrentHold() {
+		// A hold lands between reading the counter and adjusting it.
+		AvailabilityStore store = drifted(new InMemoryAvailabilityStore(100, 64) {
+			@Override
+			public boolean adjust(UUID eventId, long observed, long delta) {
+				hold(eventId, UUID.randomUUID(), UUID.randomUUID(), 1, null, Duration.ofMinutes(5));
+				return super.adjust(eventId, observed, delta);
+			}
+		});
+		InventoryReconciler reconciler = reconciler(store, true);
+
+		reconciler.reconcile();
+		reconciler.reconcile();
+
+		assertThat(store.getAvailable(eventId)).isEqualTo(CAPACITY - 1);
+		assertThat(meterRegistry.get("inventory.drift.corrections").counter().count()).isZero();
+		assertThat(driftedEvents()).isEqualTo(1);
+	}
+
+	/**
+	 * Publishes the event with three seats taken in the database that the
+	 * counter never saw.
+	 */
+	private AvailabilityStore drifted(InMemoryAvailabilityStore store) {
+		store.init(eventId, CAPACITY);
+		published.put(eventId, new EventCapacity(eventId, CAPACITY, null));
+		totals.put(eventId, new EventSeatTotals(eventId, 3, 0));
+		return store;
+	}
+
+	private InventoryReconciler reconciler(AvailabilityStore store, boolean autoCorrect) {
+		return new InventoryReconciler(events(), reservations(), store, meterRegistry, true, autoCorrect, 500, 1000,
+				5);
+	}
+
+	private double driftedEvents() {
+		return meterRegistry.get("inventory.drift.events").gauge().value();
+	}
+
+	private EventRepository events() {
+		return stub(EventRepository.class, (name, args) -> switch (name) {
+			case "findCapacitiesByStatus" -> ((UUID) args[1]).equals(new UUID(0L, 0L))
+					? List.copyOf(published.values())
+					: List.of();
+			case "findCapacitiesByIdInAndStatus" -> ((Collection<?>) args[0]).stream()
+					.map(published::get)
+					.filter(event -> event != null)
+					.toList();
+			default -> throw new UnsupportedOperationException(name);
+		});
+	}
+
+	private ReservationRepository reservations() {
+		return stub(ReservationRepository.class, (name, args) -> switch (name) {
+			case "findEventIdsUpdatedSince" -> List.copyOf(changed);
+			case "totalTakenSeats" -> ((Collection<?>) args[0]).stream()
+					.map(totals::get)
+					.filter(total -> total != null)
+					.toList();
+			default -> throw new UnsupportedOperationException(name);
+		});
+	}
+
+	private interface Answer {
+		Object apply(String method, Object[] args);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T stub(Class<T> type, Answer answer) {
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+				(proxy, method, args) -> switch (method.getName()) {
+					case "hashCode" -> System.identityHashCode(proxy);
+					case "equals" -> proxy == args[0];
+					case "toString" -> type.getSimpleName();
+					default -> answer.apply(method.getName(), args);
+				});
+	}
+}
@@ -0,0 +1,76 @@
+package com.seathold.api.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class LocalGcraTest {
+
+	private static final long INTERVAL = 1000;
+	private static final long TOLERANCE = 2 * INTERVAL;
+
+	private final AtomicLong ticker = new AtomicLong();
+	private final LocalGcra gcra = new LocalGcra(100, INTERVAL + TOLERANCE, ticker::get);
+
+	@Test
+	void admitsTheBurstThenRejects() {
+		long now = 1_000_000;
+		for (int i = 0; i < 3; i++) {
+			assertThat(gcra.tryAcquire("k", INTERVAL, TOLERANCE, now)).as("request %d", i).isTrue();
+		}
+		assertThat(gcra.tryAcquire("k", INTERVAL, TOLERANCE, now)).isFalse();
+		assertThat(gcra.retryAfter("k", TOLERANCE, now)).isEqualTo(INTERVAL);
+		assertThat(gcra.tryAcquire("other", INTERVAL, TOLERANCE, now)).isTrue();
+	}
+
+	@Test
+	void refillsOneRequestPerInterval() {
+		long now = 1_000_000;
+		for (int i = 0; i < 3; i++) {
+			gcra.tryAcquire("k", INTERVAL, TOLERANCE, now);
+		}
+
+		assertThat(gcra.tryAcquire("k", INTERVAL, TOLERANCE, now + INTERVAL - 1)).isFalse();
+		assertThat(gcra.tryAcquire("k", INTERVAL, TOLERANCE, now + INTERVAL)).isTrue();
+		assertThat(gcra.tryAcquire("k", INTERVAL, TOLERANCE, now + INTERVAL)).isFalse();
+
+		// A full burst again once the bucket has drained.
+		long later = now + 10 * INTERVAL;
+		for (int i = 0; i < 3; i++) {
+			assertThat(gcra.tryAcquire("k", INTERVAL, TOLERANCE, later)).isTrue();
+		}
+		assertThat(gcra.tryAcquire("k", INTERVAL, TOLERANCE, later)).isFalse();
+	}
+
+	@Test
+	void blockRejectsUntilTheRetryAfter() {
+		long now = 1_000_000;
+		gcra.block("k", 500, TOLERANCE, now);
+
+		assertThat(gcra.retryAfter("k", TOLERANCE, now)).isEqualTo(500);
+		assertThat(gcra.retryAfter("k", TOLERANCE, now + 500)).isZero();
+	}
+
+	@Test
+	void keysAreCapped() {
+		LocalGcra capped = new LocalGcra(50, INTERVAL + TOLERANCE, ticker::get);
+		for (int i = 0; i < 5000; i++) {
+			capped.tryAcquire("k" + i, INTERVAL, TOLERANCE, 1_000_000);
+		}
+
+		assertThat(capped.size()).isLessThanOrEqualTo(50);
+	}
+
+	@Test
+	void idleBucketsExpire() {
+		gcra.tryAcquire("k", INTERVAL, TOLERANCE, 1_000_000);
+		assertThat(gcra.size()).isEqualTo(1);
+
+		ticker.addAndGet(TimeUnit.MILLISECONDS.toNanos(INTERVAL + TOLERANCE + 1));
+
+		assertThat(gcra.size()).isZero();
+	}
+}
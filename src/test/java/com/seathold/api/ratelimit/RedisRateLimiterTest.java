@@ -0,0 +1,85 @@
+package com.seathold.api.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class RedisRateLimiterTest {
+
+	private final ScriptedRedis redis = new ScriptedRedis();
+
+	@Test
+	void redisRejectionIsRepeatedLocallyWithoutARoundTrip() {
+		RedisRateLimiter limiter = limiter(new RateLimitProperties.Limit(60, 1));
+		// Another node used up the bucket.
+		redis.replies.add(60_000L);
+
+		assertThat(limiter.tryAcquire("holds", "user")).isFalse();
+		assertThat(limiter.tryAcquire("holds", "user")).isFalse();
+		assertThat(limiter.tryAcquire("holds", "user")).isFalse();
+
+		assertThat(redis.calls).isEqualTo(1);
+	}
+
+	@Test
+	void burstAdmittedByRedisIsNotCutShortLocally() {
+		RedisRateLimiter limiter = limiter(new RateLimitProperties.Limit(60, 3));
+		for (int i = 0; i < 3; i++) {
+			redis.replies.add(0L);
+		}
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(limiter.tryAcquire("holds", "user")).as("request %d", i).isTrue();
+		}
+		// Past the burst this node's own admissions are enough to reject.
+		assertThat(limiter.tryAcquire("holds", "user")).isFalse();
+		assertThat(redis.calls).isEqualTo(3);
+	}
+
+	@Test
+	void localRejectionEndsWithTheRetryAfter() throws Exception {
+		RedisRateLimiter limiter = limiter(new RateLimitProperties.Limit(60_000, 1));
+		redis.replies.add(20L);
+		redis.replies.add(0L);
+
+		assertThat(limiter.tryAcquire("holds", "user")).isFalse();
+		Thread.sleep(50);
+
+		assertThat(limiter.tryAcquire("holds", "user")).isTrue();
+		assertThat(redis.calls).isEqualTo(2);
+	}
+
+	@Test
+	void endpointsWithoutALimitSkipRedis() {
+		RedisRateLimiter limiter = limiter(new RateLimitProperties.Limit(60, 1));
+
+		assertThat(limiter.tryAcquire("unlisted", "user")).isTrue();
+		assertThat(redis.calls).isZero();
+	}
+
+	private RedisRateLimiter limiter(RateLimitProperties.Limit holds) {
+		return new RedisRateLimiter(redis, new RateLimitProperties(Map.of("holds", holds), 100));
+	}
+
+	/**
+	 * Answers the GCRA script with queued retry-after values.
+	 */
+	private static class ScriptedRedis extends StringRedisTemplate {
+		final Deque<Long> replies = new ArrayDeque<>();
+		int calls;
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+			calls++;
+			return (T) replies.removeFirst();
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package com.seathold.api.domain.reservation;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Map-backed reservations table. Rows are copied in and out so callers
+ * never share an instance, and each row update is atomic, which is as much
+ * isolation as the hold, confirm, cancel and reaper paths rely on. Only the
+ * repository methods on those paths are implemented. Hooks run before each
+ * insert and each update, so a test can inject latency or failures there.
+ */
+public final class InMemoryReservationTable {
+    private final ConcurrentHashMap<UUID, Reservation> rows = new ConcurrentHashMap<>();
+    private final Runnable beforeInsert;
+    private final Runnable beforeUpdate;
+
+    public InMemoryReservationTable() {
+        this(() -> {
+        }, () -> {
+        });
+    }
+
+    public InMemoryReservationTable(Runnable beforeInsert, Runnable beforeUpdate) {
+        this.beforeInsert = beforeInsert;
+        this.beforeUpdate = beforeUpdate;
+    }
+
+    public ReservationRepository repository() {
+        return (ReservationRepository) Proxy.newProxyInstance(
+                ReservationRepository.class.getClassLoader(),
+                new Class<?>[] { ReservationRepository.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "save" -> save((Reservation) args[0]);
+                    case "findByIdAndUserId" -> Optional.ofNullable(rows.get((UUID) args[0]))
+                            .filter(r -> r.getUserId().equals(args[1]))
+                            .map(InMemoryReservationTable::copy);
+                    case "expireHolds" -> expire(r -> ((Collection<?>) args[0]).contains(r.getId()),
+                            (LocalDateTime) args[1]);
+                    case "expireStaleHolds" -> expire(r -> r.getExpiresAt().isBefore((LocalDateTime) args[0]),
+                            (LocalDateTime) args[1]);
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "InMemoryReservationTable";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * Seats of confirmed reservations and of holds that have not expired
+     * yet, the way the reconciler derives them.
+     */
+    public long takenSeats(LocalDateTime now) {
+        return rows.values().stream()
+                .filter(r -> r.getStatus() == ReservationStatus.CONFIRMED
+                        || (r.getStatus() == ReservationStatus.HOLD && r.getExpiresAt().isAfter(now)))
+                .mapToLong(Reservation::getQuantity)
+                .sum();
+    }
+
+    public long count(ReservationStatus status) {
+        return rows.values().stream().filter(r -> r.getStatus() == status).count();
+    }
+
+    public void remove(UUID reservationId) {
+        rows.remove(reservationId);
+    }
+
+    private Reservation save(Reservation reservation) {
+        if (reservation.isNew()) {
+            beforeInsert.run();
+        } else {
+            beforeUpdate.run();
+        }
+        Reservation row = copy(reservation);
+        rows.put(row.getId(), row);
+        return copy(row);
+    }
+
+    private int expire(Predicate<Reservation> filter, LocalDateTime now) {
+        beforeUpdate.run();
+        AtomicInteger updated = new AtomicInteger();
+        rows.replaceAll((id, r) -> {
+            if (r.getStatus() != ReservationStatus.HOLD || !filter.test(r)) {
+                return r;
+            }
+            updated.incrementAndGet();
+            Reservation expired = copy(r);
+            expired.setStatus(ReservationStatus.EXPIRED);
+            expired.setUpdatedAt(now);
+            return expired;
+        });
+        return updated.get();
+    }
+
+    private static Reservation copy(Reservation r) {
+        Reservation copy = Reservation.builder()
+                .id(r.getId())
+                .eventId(r.getEventId())
+                .userId(r.getUserId())
+                .quantity(r.getQuantity())
+                .status(r.getStatus())
+                .expiresAt(r.getExpiresAt())
+                .createdAt(r.getCreatedAt())
+                .updatedAt(r.getUpdatedAt())
+                .build();
+        copy.markNotNew();
+        return copy;
+    }
+}